@@ -9,7 +9,8 @@
 
 -- Set up any additional database configuration
 -- This file can be used for creating additional users, schemas, or initial data
--- The actual tables will be created by JPA/Hibernate when the Spring Boot app starts
+-- The actual tables are created by the Flyway migrations in src/main/resources/db/migration
+-- when the Spring Boot app starts
 
 -- Example: Create read-only user
 -- CREATE USER readonly WITH PASSWORD 'readonly123';
@@ -0,0 +1,84 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator used to compare the platform-thread and virtual-thread
+ * execution modes. Run with {@code java loadtest/LoadTest.java <url> [concurrency] [seconds]}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/employees/status/ACTIVE";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET().build();
+
+        // Warm up the server before measuring.
+        runFor(client, request, concurrency, 5_000_000_000L, new ArrayList<>(), new AtomicLong());
+
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        runFor(client, request, concurrency, seconds * 1_000_000_000L, latencies, errors);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(v -> v > 0).sorted().toArray();
+        System.out.printf("url=%s concurrency=%d duration=%.1fs%n", url, concurrency, elapsed);
+        System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n", all.length, errors.get(), all.length / elapsed);
+        System.out.printf("p50=%.1fms p99=%.1fms max=%.1fms%n",
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6, all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private static void runFor(HttpClient client, HttpRequest request, int concurrency, long nanos,
+                               List<long[]> latencies, AtomicLong errors) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                long[] samples = new long[1 << 16];
+                synchronized (latencies) {
+                    latencies.add(samples);
+                }
+                workers.submit(() -> {
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (n < samples.length) {
+                            samples[n++] = System.nanoTime() - begin;
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,74 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.EmployeeManagementApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the application against a private in-memory H2 database, filled by the data generator
+ * with a synthetic dataset before the in-memory indexes are built on {@code ApplicationReadyEvent}.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    @Param({"10000"})
+    public int employees;
+
+    @Param({"10"})
+    public int departments;
+
+    @Param({"42"})
+    public long seed;
+
+    /** {@code hibernate.jdbc.batch_size}; 1 turns insert and update batching off. */
+    @Param({"50"})
+    public int jdbcBatchSize;
+
+    /** {@code app.coalescing.enabled}: whether identical concurrent reads share one execution. */
+    @Param({"true"})
+    public boolean coalescing;
+
+    /** {@code app.write-serializer.enabled}: whether single-employee writes queue on lock stripes. */
+    @Param({"true"})
+    public boolean writeSerializer;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(EmployeeManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.ofEntries(
+                Map.entry("spring.datasource.url", "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"),
+                Map.entry("spring.jpa.show-sql", "false"),
+                Map.entry("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.toString(jdbcBatchSize)),
+                Map.entry("app.coalescing.enabled", Boolean.toString(coalescing)),
+                Map.entry("app.write-serializer.enabled", Boolean.toString(writeSerializer)),
+                Map.entry("app.data.generator.employees", Integer.toString(employees)),
+                Map.entry("app.data.generator.departments", Integer.toString(departments)),
+                Map.entry("app.data.generator.seed", Long.toString(seed)),
+                Map.entry("spring.main.banner-mode", "off"),
+                Map.entry("logging.level.root", "WARN"),
+                Map.entry("logging.level.com.coderahul.employeemanagement", "WARN")));
+        context = application.run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
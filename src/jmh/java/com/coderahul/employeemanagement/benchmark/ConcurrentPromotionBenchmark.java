@@ -0,0 +1,134 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Eight threads promoting employees, either all over the same four ({@code workload=hot}) or each
+ * within its own department ({@code workload=partitioned}). Every promotion asks for a salary
+ * above any asked for before on that employee, so a promotion that commits must leave the highest
+ * salary that committed; the trial teardown checks that against the database and prints
+ * succeeded, stale (a higher salary was already in) and conflicting promotions and lost updates
+ * ({@code # promotions: ...}). Compare {@code -p writeSerializer=true,false}, and the partitioned
+ * workload at {@code -t 1,2,4,8} for scaling:
+ * {@code -Djmh.args="ConcurrentPromotionBenchmark -p writeSerializer=true,false"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentPromotionBenchmark {
+
+    private static final int HOT_EMPLOYEES = 4;
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+
+        @Param({"hot", "partitioned"})
+        public String workload;
+
+        EmployeeService employeeService;
+        EmployeeRepository employeeRepository;
+        final Map<Long, BigDecimal> baseSalaries = new ConcurrentHashMap<>();
+        final Map<Long, AtomicLong> raisesAsked = new ConcurrentHashMap<>();
+        final Map<Long, AtomicLong> raisesCommitted = new ConcurrentHashMap<>();
+        final List<List<Long>> departments = new ArrayList<>();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder stale = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext context) {
+            employeeService = context.bean(EmployeeService.class);
+            employeeRepository = context.bean(EmployeeRepository.class);
+            Map<Long, List<Long>> byDepartment = new TreeMap<>();
+            for (EmployeeDto employee : employeeRepository.findAllDtos()) {
+                if (employee.departmentId() != null && employee.salary() != null) {
+                    baseSalaries.put(employee.id(), employee.salary());
+                    raisesAsked.put(employee.id(), new AtomicLong());
+                    raisesCommitted.put(employee.id(), new AtomicLong());
+                    byDepartment.computeIfAbsent(employee.departmentId(), id -> new ArrayList<>()).add(employee.id());
+                }
+            }
+            departments.addAll(byDepartment.values());
+        }
+
+        @TearDown(Level.Trial)
+        public void verify() {
+            Map<Long, BigDecimal> salaries = employeeRepository.findAllDtos().stream()
+                    .filter(employee -> employee.salary() != null)
+                    .collect(Collectors.toMap(EmployeeDto::id, EmployeeDto::salary));
+            long lost = baseSalaries.entrySet().stream()
+                    .filter(entry -> salaries.get(entry.getKey()).compareTo(
+                            entry.getValue().add(BigDecimal.valueOf(raisesCommitted.get(entry.getKey()).get()))) != 0)
+                    .count();
+            System.out.printf("%n# promotions: %d succeeded, %d stale, %d conflicts, %d employees with lost updates%n",
+                    succeeded.sum(), stale.sum(), conflicts.sum(), lost);
+        }
+
+        List<Long> employeesFor(int thread) {
+            return workload.equals("hot")
+                    ? departments.get(0).subList(0, HOT_EMPLOYEES)
+                    : departments.get(thread % departments.size());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        List<Long> employees;
+
+        @Setup(Level.Trial)
+        public void setUp(Fixture fixture, ThreadParams threads) {
+            employees = fixture.employeesFor(threads.getThreadIndex());
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean promote(Fixture fixture, Worker worker) {
+        Long id = worker.employees.get(ThreadLocalRandom.current().nextInt(worker.employees.size()));
+        long raise = fixture.raisesAsked.get(id).incrementAndGet();
+        try {
+            fixture.employeeService.promoteEmployee(id, fixture.baseSalaries.get(id).add(BigDecimal.valueOf(raise)));
+            fixture.raisesCommitted.get(id).accumulateAndGet(raise, Math::max);
+            fixture.succeeded.increment();
+            return true;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            fixture.conflicts.increment();
+        } catch (IllegalArgumentException e) {
+            fixture.stale.increment();
+        }
+        return false;
+    }
+}
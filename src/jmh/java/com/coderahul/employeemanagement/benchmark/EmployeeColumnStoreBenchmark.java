@@ -0,0 +1,81 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.analytics.EmployeeColumnStore;
+import com.coderahul.employeemanagement.datagen.SyntheticDataset;
+import com.coderahul.employeemanagement.dto.AnalyticsFilter;
+import com.coderahul.employeemanagement.dto.DepartmentAggregate;
+import com.coderahul.employeemanagement.dto.SalaryHistogram;
+import com.coderahul.employeemanagement.dto.SalaryPercentiles;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full scans of the columnar analytics snapshot, without Spring or a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeColumnStoreBenchmark {
+
+    private static final AnalyticsFilter ALL = new AnalyticsFilter(null, null, null, null);
+    private static final AnalyticsFilter ACTIVE_SINCE_2015 =
+            new AnalyticsFilter(null, List.of(EmploymentStatus.ACTIVE), LocalDate.of(2015, 1, 1), null);
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    @Param({"1000000"})
+    public int employees;
+
+    @Param({"50"})
+    public int departments;
+
+    private EmployeeColumnStore store;
+
+    @Setup(Level.Trial)
+    public void buildSnapshot() {
+        store = new EmployeeColumnStore();
+        SyntheticDataset dataset = new SyntheticDataset(42, departments);
+        store.rebuild(sink -> {
+            for (long i = 0; i < employees; i++) {
+                sink.accept(dataset.employee(i));
+            }
+        });
+    }
+
+    @Benchmark
+    public List<DepartmentAggregate> groupByDepartment() {
+        return store.groupByDepartment(ALL);
+    }
+
+    @Benchmark
+    public List<DepartmentAggregate> groupByDepartmentFiltered() {
+        return store.groupByDepartment(ACTIVE_SINCE_2015);
+    }
+
+    @Benchmark
+    public SalaryPercentiles percentiles() {
+        return store.salaryPercentiles(ALL, PERCENTILES);
+    }
+
+    @Benchmark
+    public SalaryHistogram histogram() {
+        return store.salaryHistogram(ACTIVE_SINCE_2015, 20);
+    }
+}
\ No newline at end of file
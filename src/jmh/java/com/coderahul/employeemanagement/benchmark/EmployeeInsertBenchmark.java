@@ -0,0 +1,100 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insert throughput through JPA. Compare {@code -p jdbcBatchSize=1,50} to see what batching on
+ * top of the pooled id sequences is worth:
+ * {@code -Djmh.args="EmployeeInsertBenchmark -p jdbcBatchSize=1,50"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeInsertBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+
+        /** Employees saved per bulk-load transaction. */
+        @Param({"1000"})
+        public int bulkSize;
+
+        EmployeeService employeeService;
+        EmployeeRepository employeeRepository;
+        DepartmentRepository departmentRepository;
+        TransactionTemplate transactionTemplate;
+        final AtomicLong createdCounter = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext context) {
+            employeeService = context.bean(EmployeeService.class);
+            employeeRepository = context.bean(EmployeeRepository.class);
+            departmentRepository = context.bean(DepartmentRepository.class);
+            transactionTemplate = context.bean(TransactionTemplate.class);
+        }
+
+        Employee newEmployee(String kind) {
+            long n = createdCounter.incrementAndGet();
+            Employee employee = new Employee("Bench", "Inserted", "bench." + kind + "." + n + "@bench.example",
+                    "+15550000000", LocalDate.of(2020, 1, 1), new BigDecimal("50000.00"));
+            employee.setEmploymentStatus(EmploymentStatus.ACTIVE);
+            return employee;
+        }
+    }
+
+    /**
+     * Bursts of concurrent single creates, each its own transaction, as the REST endpoint sees
+     * them. Batching cannot help here; the sequence saves one round trip per 50 inserts.
+     */
+    @Benchmark
+    @Threads(4)
+    public Employee createEmployeeBurst(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.createEmployee(fixture.newEmployee("burst"));
+    }
+
+    /**
+     * One transaction saving {@code bulkSize} employees, as a data load or generator does. The
+     * score is transactions per second; multiply by {@code bulkSize} for rows per second.
+     */
+    @Benchmark
+    public List<Employee> bulkLoad(BenchmarkContext context, Fixture fixture) {
+        return fixture.transactionTemplate.execute(status -> {
+            Department department = fixture.departmentRepository.getReferenceById(1L);
+            List<Employee> employees = new ArrayList<>(fixture.bulkSize);
+            for (int i = 0; i < fixture.bulkSize; i++) {
+                Employee employee = fixture.newEmployee("bulk");
+                employee.setDepartment(department);
+                employees.add(employee);
+            }
+            return fixture.employeeRepository.saveAll(employees);
+        });
+    }
+}
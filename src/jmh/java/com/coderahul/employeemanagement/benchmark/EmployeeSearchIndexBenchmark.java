@@ -0,0 +1,53 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.datagen.SyntheticDataset;
+import com.coderahul.employeemanagement.search.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the trigram search index on its own, without Spring or a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeSearchIndexBenchmark {
+
+    @Param({"1000000"})
+    public int employees;
+
+    @Param({"jennifer martinez", "jenifer marti", "rahul an", "priya.sharma", "zzqx"})
+    public String query;
+
+    private EmployeeSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        index = new EmployeeSearchIndex();
+        SyntheticDataset dataset = new SyntheticDataset(42, 10);
+        for (long i = 0; i < employees; i++) {
+            index.add(dataset.employee(i));
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service and repository hot paths against a seeded H2 database. Dataset size is controlled with
+ * {@code -p employees=...} and {@code -p departments=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EmployeeServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+        EmployeeService employeeService;
+        EmployeeRepository employeeRepository;
+        ObjectMapper objectMapper;
+        Employee employee;
+        List<EmployeeDto> page;
+        long minEmployeeId;
+        long maxEmployeeId;
+        long departmentId;
+        final AtomicLong createdCounter = new AtomicLong();
+        final AtomicLong salaryCounter = new AtomicLong(100_000_000L);
+        SplittableRandom random = new SplittableRandom(7);
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext context) {
+            employeeService = context.bean(EmployeeService.class);
+            employeeRepository = context.bean(EmployeeRepository.class);
+            objectMapper = context.bean(ObjectMapper.class);
+            page = employeeService.getEmployeesPage(0L, 1000).items();
+            minEmployeeId = page.get(0).id();
+            maxEmployeeId = minEmployeeId + context.employees - 1;
+            departmentId = page.get(0).departmentId();
+            employee = employeeService.getEmployeeById(minEmployeeId).orElseThrow();
+        }
+
+        long randomEmployeeId() {
+            return minEmployeeId + random.nextLong(maxEmployeeId - minEmployeeId + 1);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeDto> findAll(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public Object keysetPage(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeesPage(fixture.randomEmployeeId(), 100);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> searchByName(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.searchEmployeesByName("jenifer marti", 20);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeDto> salaryRange(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeesBySalaryRange(new BigDecimal("100000.00"), new BigDecimal("101000.00"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeDto> hireDateRange(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeesByHireDateRange(LocalDate.of(2015, 3, 1), LocalDate.of(2015, 3, 31));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<EmployeeDto> statusFilter(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeesByStatus(EmploymentStatus.TERMINATED);
+    }
+
+    @Benchmark
+    public BigDecimal departmentAverageSalaryQuery(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeRepository.findAverageSalaryByDepartment(fixture.departmentId);
+    }
+
+    @Benchmark
+    public BigDecimal departmentAverageSalary(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getAverageSalaryByDepartment(fixture.departmentId);
+    }
+
+    @Benchmark
+    public Long departmentCount(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeeCountByDepartment(fixture.departmentId);
+    }
+
+    @Benchmark
+    public Employee createEmployee(BenchmarkContext context, Fixture fixture) {
+        long n = fixture.createdCounter.incrementAndGet();
+        Employee employee = new Employee("Bench", "Created", "bench.created." + n + "@bench.example",
+                "+15550000000", LocalDate.of(2020, 1, 1), new BigDecimal("50000.00"));
+        return fixture.employeeService.createEmployee(employee);
+    }
+
+    @Benchmark
+    public Employee updateEmployee(BenchmarkContext context, Fixture fixture) {
+        long id = fixture.randomEmployeeId();
+        Employee details = fixture.employeeService.getEmployeeById(id).orElseThrow();
+        Employee update = new Employee(details.getFirstName(), details.getLastName(), details.getEmail(),
+                details.getPhoneNumber(), details.getHireDate(), details.getSalary());
+        update.setEmploymentStatus(details.getEmploymentStatus());
+        return fixture.employeeService.updateEmployee(id, update);
+    }
+
+    @Benchmark
+    public Employee promoteEmployee(BenchmarkContext context, Fixture fixture) {
+        BigDecimal newSalary = BigDecimal.valueOf(fixture.salaryCounter.incrementAndGet(), 2);
+        return fixture.employeeService.promoteEmployee(fixture.minEmployeeId, newSalary);
+    }
+
+    @Benchmark
+    public String serializeEmployee(BenchmarkContext context, Fixture fixture) throws JsonProcessingException {
+        return fixture.objectMapper.writeValueAsString(fixture.employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeePage(BenchmarkContext context, Fixture fixture) throws JsonProcessingException {
+        return fixture.objectMapper.writeValueAsBytes(fixture.page);
+    }
+}
\ No newline at end of file
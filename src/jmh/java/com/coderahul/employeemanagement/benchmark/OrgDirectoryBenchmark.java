@@ -0,0 +1,77 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.directory.OrgDirectory;
+import com.coderahul.employeemanagement.service.DepartmentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The body of {@code GET /api/departments/with-employees}: the department LEFT JOIN employee
+ * query serialized by Jackson, against copying the org directory's pre-encoded segments. Both
+ * write to a byte counter, so only producing the JSON is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class OrgDirectoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+
+        DepartmentService departmentService;
+        OrgDirectory orgDirectory;
+        ObjectMapper objectMapper;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext context) {
+            departmentService = context.bean(DepartmentService.class);
+            orgDirectory = context.bean(OrgDirectory.class);
+            objectMapper = context.bean(ObjectMapper.class);
+        }
+    }
+
+    @Benchmark
+    public long joinAndSerialize(BenchmarkContext context, Fixture fixture) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        fixture.objectMapper.writeValue(out, fixture.departmentService.getAllDepartmentsWithEmployees());
+        return out.count;
+    }
+
+    @Benchmark
+    public long directory(BenchmarkContext context, Fixture fixture) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        fixture.orgDirectory.view().writeTo(out);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sixteen threads asking for the same status list at once, like a dashboard burst. Compare
+ * {@code -p coalescing=true,false}; with coalescing on, the queries actually run are printed per
+ * trial ({@code # coalescing: ...}):
+ * {@code -Djmh.args="RequestCoalescingBenchmark -p coalescing=true,false"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RequestCoalescingBenchmark {
+
+    private static final String METHOD = "EmployeeService.getEmployeesByStatus";
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+
+        EmployeeService employeeService;
+        MeterRegistry meterRegistry;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkContext context) {
+            employeeService = context.bean(EmployeeService.class);
+            meterRegistry = context.bean(MeterRegistry.class);
+        }
+
+        @TearDown(Level.Trial)
+        public void report() {
+            double executed = count("executed");
+            double shared = count("joined") + count("cached");
+            if (executed + shared > 0) {
+                System.out.printf("%n# coalescing: %.0f calls ran %.0f queries (%.1f calls per query)%n",
+                        executed + shared, executed, (executed + shared) / executed);
+            }
+        }
+
+        private double count(String outcome) {
+            Counter counter = meterRegistry.find("app.coalescing.calls")
+                    .tag("method", METHOD)
+                    .tag("outcome", outcome)
+                    .counter();
+            return counter != null ? counter.count() : 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public List<EmployeeDto> activeEmployeesBurst(BenchmarkContext context, Fixture fixture) {
+        return fixture.employeeService.getEmployeesByStatus(EmploymentStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,142 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.datagen.SyntheticDataset;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.serialization.EntitySerializationModule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializing an employee list response of {@code rows} rows, per format, serializer and
+ * content coding, with mappers configured like the application's. The payload size is printed
+ * once per trial ({@code # payload: ...}).
+ * {@code -Djmh.args="ResponseSerializationBenchmark -p compression=none"} skips the gzip runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ResponseSerializationBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    /** {@code reflective} is Jackson's bean serialization, {@code handwritten} the EntitySerializationModule. */
+    @Param({"reflective", "handwritten"})
+    public String serializers;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    private List<EmployeeDto> employees;
+    private ObjectWriter writer;
+    private long payloadBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SyntheticDataset dataset = new SyntheticDataset(42, 50);
+        employees = new ArrayList<>(rows);
+        for (long i = 0; i < rows; i++) {
+            employees.add(dataset.employee(i));
+        }
+        writer = writer(serializers.equals("handwritten"));
+        if (serializers.equals("handwritten")) {
+            // Same bytes as the annotation-driven output, or the comparison is meaningless
+            byte[] expected = writer(false).writeValueAsBytes(employees);
+            if (!Arrays.equals(expected, writer.writeValueAsBytes(employees))) {
+                throw new IllegalStateException("Hand-written " + format + " output differs from reflective output");
+            }
+        }
+        payloadBytes = serialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportPayload() {
+        System.out.printf("%n# payload: %s %s %s, %d rows: %d bytes (%.1f per row)%n",
+                format, serializers, compression, rows, payloadBytes, (double) payloadBytes / rows);
+    }
+
+    @Benchmark
+    public long serialize() throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        if (compression.equals("gzip")) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(counter, 8192)) {
+                writer.writeValue(gzip, employees);
+            }
+        } else {
+            writer.writeValue(counter, employees);
+        }
+        return counter.count;
+    }
+
+    private ObjectWriter writer(boolean handwritten) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .factory(factory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (handwritten) {
+            builder.modulesToInstall(new EntitySerializationModule());
+        }
+        ObjectMapper mapper = builder.build();
+        return mapper.writerFor(new TypeReference<List<EmployeeDto>>() {
+        });
+    }
+
+    private JsonFactory factory() {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    }
+
+    /**
+     * Counts what would go on the wire without keeping it.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
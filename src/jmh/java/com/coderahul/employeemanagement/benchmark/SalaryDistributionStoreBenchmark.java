@@ -0,0 +1,70 @@
+package com.coderahul.employeemanagement.benchmark;
+
+import com.coderahul.employeemanagement.datagen.SyntheticDataset;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.stats.SalaryDistributionStore;
+import com.coderahul.employeemanagement.stats.SalarySketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribution queries against the salary sketches; the cost should not move with {@code employees}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SalaryDistributionStoreBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int employees;
+
+    @Param({"50"})
+    public int departments;
+
+    private SalaryDistributionStore store;
+
+    @Setup(Level.Trial)
+    public void buildSketches() {
+        store = new SalaryDistributionStore();
+        SyntheticDataset dataset = new SyntheticDataset(42, departments);
+        store.rebuild(builder -> {
+            for (long i = 0; i < employees; i++) {
+                EmployeeDto employee = dataset.employee(i);
+                builder.add(employee.departmentId(), employee.employmentStatus(), employee.salary());
+            }
+        });
+    }
+
+    @Benchmark
+    public double companyMedian() {
+        return store.merged(null, List.of()).quantile(0.5);
+    }
+
+    @Benchmark
+    public double departmentActiveP90() {
+        return store.merged(7L, List.of(EmploymentStatus.ACTIVE)).quantile(0.9);
+    }
+
+    @Benchmark
+    public long[] companyHistogram() {
+        SalarySketch sketch = store.merged(null, List.of());
+        return sketch.histogram(sketch.lowerBound(), sketch.upperBound(), 10);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,407 @@
+package com.coderahul.employeemanagement.analytics;
+
+import com.coderahul.employeemanagement.dto.AnalyticsFilter;
+import com.coderahul.employeemanagement.dto.DepartmentAggregate;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.SalaryHistogram;
+import com.coderahul.employeemanagement.dto.SalaryPercentiles;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Columnar copy of the employees table for reporting scans. Each column is a primitive array:
+ * salary in cents, hire date as epoch day, status as a byte code and department as an index into
+ * a dictionary of department ids. Queries are single passes over those arrays and allocate only
+ * their result. Rows are updated in place from committed {@link EmployeeChangedEvent}s; deleted
+ * rows are tombstoned and squeezed out once they make up a quarter of the table.
+ */
+@Component
+public class EmployeeColumnStore {
+
+    private static final long NO_SALARY = Long.MIN_VALUE;
+    private static final int NO_DEPARTMENT = -1;
+    private static final int ANY_DEPARTMENT = Integer.MIN_VALUE;
+    private static final int UNKNOWN_DEPARTMENT = -2;
+    private static final byte NO_STATUS = 29;
+    private static final byte DELETED = 30;
+    private static final int ALL_STATUSES = ~(1 << DELETED);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns(1024);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Columns current = columns;
+            int row = current.rowIndex.get(event.employeeId());
+            if (event.after() == null) {
+                if (row >= 0 && current.statuses[row] != DELETED) {
+                    current.statuses[row] = DELETED;
+                    current.deleted++;
+                    if (current.deleted > 1024 && current.deleted > current.size / 4) {
+                        columns = current.compact();
+                    }
+                }
+            } else if (row >= 0 && current.statuses[row] != DELETED) {
+                current.set(row, event.after());
+            } else {
+                current.append(event.after());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the snapshot. {@code loader} must pass every employee to the supplied consumer;
+     * writers and readers are blocked until the new columns are swapped in.
+     */
+    public void rebuild(Consumer<Consumer<EmployeeDto>> loader) {
+        lock.writeLock().lock();
+        try {
+            Columns rebuilt = new Columns(1024);
+            loader.accept(rebuilt::append);
+            columns = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.size - columns.deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<DepartmentAggregate> groupByDepartment(AnalyticsFilter filter) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            Scan scan = c.scan(filter);
+            int departments = c.departmentIds.size();
+            long[] headcount = new long[departments];
+            long[] salaryCount = new long[departments];
+            long[] total = new long[departments];
+            long[] min = new long[departments];
+            long[] max = new long[departments];
+            Arrays.fill(min, Long.MAX_VALUE);
+            Arrays.fill(max, Long.MIN_VALUE);
+            for (int i = 0; i < c.size; i++) {
+                int department = c.departments[i];
+                if (department < 0 || !scan.matches(c, i)) {
+                    continue;
+                }
+                headcount[department]++;
+                long salary = c.salaryCents[i];
+                if (salary != NO_SALARY) {
+                    salaryCount[department]++;
+                    total[department] += salary;
+                    min[department] = Math.min(min[department], salary);
+                    max[department] = Math.max(max[department], salary);
+                }
+            }
+            List<DepartmentAggregate> result = new ArrayList<>();
+            for (int d = 0; d < departments; d++) {
+                if (headcount[d] == 0) {
+                    continue;
+                }
+                boolean hasSalary = salaryCount[d] > 0;
+                result.add(new DepartmentAggregate(c.departmentIds.get(d), headcount[d], toAmount(total[d]),
+                        hasSalary ? toAmount(total[d]).divide(BigDecimal.valueOf(salaryCount[d]), 2, RoundingMode.HALF_UP) : null,
+                        hasSalary ? toAmount(min[d]) : null,
+                        hasSalary ? toAmount(max[d]) : null));
+            }
+            result.sort(Comparator.comparing(DepartmentAggregate::departmentId));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SalaryPercentiles salaryPercentiles(AnalyticsFilter filter, double[] percentiles) {
+        long[] salaries = matchingSalaries(filter);
+        int[] positions = new int[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            positions[i] = Math.max((int) Math.ceil(percentiles[i] / 100 * salaries.length), 1) - 1;
+        }
+        // Selecting the positions in ascending order lets each one partition only what lies above the previous
+        int[] ascending = positions.clone();
+        Arrays.sort(ascending);
+        int from = 0;
+        for (int position : ascending) {
+            if (position < salaries.length) {
+                select(salaries, from, position);
+                from = position;
+            }
+        }
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (int i = 0; i < percentiles.length; i++) {
+            BigDecimal value = salaries.length == 0 ? null : toAmount(salaries[positions[i]]);
+            values.put("p" + BigDecimal.valueOf(percentiles[i]).stripTrailingZeros().toPlainString(), value);
+        }
+        return new SalaryPercentiles(salaries.length, values);
+    }
+
+    /**
+     * Quickselect: moves the value that belongs at {@code k} in sorted order there, with smaller
+     * values before it and larger ones after, touching only {@code values[from..]}.
+     */
+    private static void select(long[] values, int from, int k) {
+        int lo = from;
+        int hi = values.length - 1;
+        while (lo < hi) {
+            long a = values[lo];
+            long b = values[(lo + hi) >>> 1];
+            long c = values[hi];
+            long pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    long swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    public SalaryHistogram salaryHistogram(AnalyticsFilter filter, int buckets) {
+        long[] salaries = matchingSalaries(filter);
+        if (salaries.length == 0) {
+            return new SalaryHistogram(0, List.of());
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long salary : salaries) {
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+        // Whole currency units keep the bucket edges readable; the last bin is closed on the right
+        long width = Math.max(100, Math.ceilDiv(max - min, buckets * 100L) * 100);
+        int binCount = (int) Math.min(buckets, (max - min) / width + 1);
+        long[] counts = new long[binCount];
+        for (long salary : salaries) {
+            counts[(int) Math.min((salary - min) / width, binCount - 1)]++;
+        }
+        List<SalaryHistogram.Bin> bins = new ArrayList<>(binCount);
+        for (int b = 0; b < binCount; b++) {
+            long from = min + b * width;
+            bins.add(new SalaryHistogram.Bin(toAmount(from), toAmount(from + width), counts[b]));
+        }
+        return new SalaryHistogram(salaries.length, bins);
+    }
+
+    private long[] matchingSalaries(AnalyticsFilter filter) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            Scan scan = c.scan(filter);
+            long[] salaries = new long[c.size];
+            int count = 0;
+            for (int i = 0; i < c.size; i++) {
+                long salary = c.salaryCents[i];
+                if (salary != NO_SALARY && scan.matches(c, i)) {
+                    salaries[count++] = salary;
+                }
+            }
+            return Arrays.copyOf(salaries, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private record Scan(int statusMask, int hiredFrom, int hiredTo, int department) {
+
+        boolean matches(Columns c, int row) {
+            return ((statusMask >>> c.statuses[row]) & 1) != 0
+                    && c.hireDays[row] >= hiredFrom && c.hireDays[row] <= hiredTo
+                    && (department == ANY_DEPARTMENT || c.departments[row] == department);
+        }
+    }
+
+    private static final class Columns {
+        long[] ids;
+        long[] salaryCents;
+        int[] hireDays;
+        byte[] statuses;
+        int[] departments;
+        int size;
+        int deleted;
+        final RowIndex rowIndex;
+        final List<Long> departmentIds;
+        final Map<Long, Integer> departmentCodes;
+
+        Columns(int capacity) {
+            this(capacity, new ArrayList<>(), new HashMap<>());
+        }
+
+        private Columns(int capacity, List<Long> departmentIds, Map<Long, Integer> departmentCodes) {
+            ids = new long[capacity];
+            salaryCents = new long[capacity];
+            hireDays = new int[capacity];
+            statuses = new byte[capacity];
+            departments = new int[capacity];
+            rowIndex = new RowIndex(capacity);
+            this.departmentIds = departmentIds;
+            this.departmentCodes = departmentCodes;
+        }
+
+        void append(EmployeeDto employee) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                salaryCents = Arrays.copyOf(salaryCents, capacity);
+                hireDays = Arrays.copyOf(hireDays, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                departments = Arrays.copyOf(departments, capacity);
+            }
+            rowIndex.put(employee.id(), size);
+            set(size++, employee);
+        }
+
+        void set(int row, EmployeeDto employee) {
+            ids[row] = employee.id();
+            salaryCents[row] = employee.salary() == null ? NO_SALARY
+                    : employee.salary().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            hireDays[row] = employee.hireDate() == null ? Integer.MIN_VALUE : (int) employee.hireDate().toEpochDay();
+            statuses[row] = employee.employmentStatus() == null ? NO_STATUS : (byte) employee.employmentStatus().ordinal();
+            departments[row] = employee.departmentId() == null ? NO_DEPARTMENT
+                    : departmentCodes.computeIfAbsent(employee.departmentId(), id -> {
+                        departmentIds.add(id);
+                        return departmentIds.size() - 1;
+                    });
+        }
+
+        Columns compact() {
+            Columns compacted = new Columns(Math.max(1024, size - deleted), departmentIds, departmentCodes);
+            for (int i = 0; i < size; i++) {
+                if (statuses[i] == DELETED) {
+                    continue;
+                }
+                int row = compacted.size++;
+                compacted.ids[row] = ids[i];
+                compacted.salaryCents[row] = salaryCents[i];
+                compacted.hireDays[row] = hireDays[i];
+                compacted.statuses[row] = statuses[i];
+                compacted.departments[row] = departments[i];
+                compacted.rowIndex.put(ids[i], row);
+            }
+            return compacted;
+        }
+
+        Scan scan(AnalyticsFilter filter) {
+            int statusMask = ALL_STATUSES;
+            if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+                statusMask = 0;
+                for (EmploymentStatus status : filter.statuses()) {
+                    statusMask |= 1 << status.ordinal();
+                }
+            }
+            int department = ANY_DEPARTMENT;
+            if (filter.departmentId() != null) {
+                department = departmentCodes.getOrDefault(filter.departmentId(), UNKNOWN_DEPARTMENT);
+            }
+            return new Scan(statusMask,
+                    filter.hiredFrom() == null ? Integer.MIN_VALUE : (int) filter.hiredFrom().toEpochDay(),
+                    filter.hiredTo() == null ? Integer.MAX_VALUE : (int) filter.hiredTo().toEpochDay(),
+                    department);
+        }
+    }
+
+    /**
+     * Open-addressing map from employee id to row, so lookups on the write path do not box.
+     */
+    private static final class RowIndex {
+        private long[] keys;
+        private int[] rows;
+        private int size;
+
+        RowIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 16) * 2 - 1) << 1;
+            keys = new long[capacity];
+            rows = new int[capacity];
+            Arrays.fill(rows, -1);
+        }
+
+        int get(long id) {
+            int mask = rows.length - 1;
+            for (int slot = hash(id) & mask; rows[slot] != -1; slot = (slot + 1) & mask) {
+                if (keys[slot] == id) {
+                    return rows[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long id, int row) {
+            if ((size + 1) * 2 > rows.length) {
+                resize();
+            }
+            int mask = rows.length - 1;
+            int slot = hash(id) & mask;
+            while (rows[slot] != -1 && keys[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            if (rows[slot] == -1) {
+                size++;
+            }
+            keys[slot] = id;
+            rows[slot] = row;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldRows = rows;
+            keys = new long[oldKeys.length * 2];
+            rows = new int[oldRows.length * 2];
+            Arrays.fill(rows, -1);
+            size = 0;
+            for (int i = 0; i < oldRows.length; i++) {
+                if (oldRows[i] != -1) {
+                    put(oldKeys[i], oldRows[i]);
+                }
+            }
+        }
+
+        private static int hash(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.coderahul.employeemanagement.cache;
+
+import com.coderahul.employeemanagement.config.CacheConfig;
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts exactly the cache entries a committed mutation can make stale. Eviction runs after
+ * commit so a concurrent reader cannot re-populate an entry with pre-commit data.
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    private final Cache employees;
+    private final Cache employeeIdsByEmail;
+    private final Cache departments;
+    private final Cache departmentIdsByName;
+
+    @Autowired
+    public EntityCacheInvalidator(CacheManager cacheManager) {
+        this.employees = cacheManager.getCache(CacheConfig.EMPLOYEES);
+        this.employeeIdsByEmail = cacheManager.getCache(CacheConfig.EMPLOYEE_IDS_BY_EMAIL);
+        this.departments = cacheManager.getCache(CacheConfig.DEPARTMENTS);
+        this.departmentIdsByName = cacheManager.getCache(CacheConfig.DEPARTMENT_IDS_BY_NAME);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        employees.evict(event.employeeId());
+        evictEmployee(event.before());
+        evictEmployee(event.after());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        departments.evict(event.departmentId());
+        evictDepartmentName(event.before());
+        evictDepartmentName(event.after());
+    }
+
+    private void evictEmployee(EmployeeDto employee) {
+        if (employee == null) {
+            return;
+        }
+        employeeIdsByEmail.evict(employee.email());
+        // Department payloads embed their employee list.
+        if (employee.departmentId() != null) {
+            departments.evict(employee.departmentId());
+        }
+    }
+
+    private void evictDepartmentName(DepartmentDto department) {
+        if (department != null) {
+            departmentIdsByName.evict(department.departmentName());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.coderahul.employeemanagement.cache;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Version stamps for the collection endpoints, used as their ETag and Last-Modified: one stamp
+ * for everything and one per department, covering the department and its employees. Stamps move
+ * after commit, and a handler reads the stamp before the data, so a response can carry an older
+ * stamp than its data but never a newer one. Stamps live in memory; the ETag includes the
+ * startup time so tags from a previous run never match. The tags are weak: the same stamp covers
+ * every format and content coding of the collection, and Tomcat does not gzip a response that
+ * carries a strong ETag.
+ */
+@Component
+public class ResourceVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Stamp initial = stamp(0);
+    private final AtomicReference<Stamp> global = new AtomicReference<>(initial);
+    private final Map<Long, Stamp> departments = new ConcurrentHashMap<>();
+
+    /**
+     * ETag of a single entity, from its {@code @Version}.
+     */
+    public static String entityTag(Long version) {
+        return "\"" + (version != null ? version : 0) + "\"";
+    }
+
+    /**
+     * Parses an {@code If-Match} value produced by {@link #entityTag}. Returns null for {@code *}
+     * and -1 for a tag that cannot be one of ours, which matches no version.
+     */
+    public static Long parseEntityTag(String tag) {
+        String value = tag.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Moves on every employee and department change.
+     */
+    public Stamp all() {
+        return global.get();
+    }
+
+    /**
+     * Moves when the department or one of its employees changes, including employees moving in
+     * or out.
+     */
+    public Stamp department(Long departmentId) {
+        return departments.getOrDefault(departmentId, initial);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        bumpGlobal();
+        bumpDepartment(departmentId(event.before()));
+        bumpDepartment(departmentId(event.after()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        bumpGlobal();
+        bumpDepartment(event.departmentId());
+    }
+
+    private void bumpGlobal() {
+        global.updateAndGet(this::next);
+    }
+
+    private void bumpDepartment(Long departmentId) {
+        if (departmentId != null) {
+            departments.compute(departmentId, (id, stamp) -> next(stamp != null ? stamp : initial));
+        }
+    }
+
+    private Stamp next(Stamp stamp) {
+        return stamp(stamp.version() + 1);
+    }
+
+    private Stamp stamp(long version) {
+        return new Stamp(version, "W/\"" + epoch + "-" + version + "\"", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static Long departmentId(EmployeeDto employee) {
+        return employee != null ? employee.departmentId() : null;
+    }
+
+    public record Stamp(long version, String etag, Instant lastModified) {
+
+        public long lastModifiedMillis() {
+            return lastModified.toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.coderahul.employeemanagement.changefeed;
+
+import com.coderahul.employeemanagement.entity.ChangeEvent.EntityType;
+import com.coderahul.employeemanagement.entity.ChangeEvent.Operation;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.service.ChangeFeedService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes every employee and department change to the {@code change_events} outbox in the
+ * transaction that made it. Changes are collected while the transaction runs and inserted as one
+ * JDBC batch just before it commits, so a rollback leaves no outbox rows behind.
+ * <p>
+ * Inserts run one at a time and report their seqs to {@link OutboxWatermark}, which keeps the feed
+ * below any transaction that has not completed yet. Commits and after-commit listeners are not
+ * serialized.
+ */
+@Component
+public class ChangeOutboxWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO change_events (entity_type, entity_id, operation, occurred_at, data) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedService changeFeedService;
+    private final OutboxWatermark watermark;
+
+    @Autowired
+    public ChangeOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, ChangeFeedService changeFeedService,
+                              OutboxWatermark watermark) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.changeFeedService = changeFeedService;
+        this.watermark = watermark;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        append(EntityType.EMPLOYEE, event.employeeId(), operation(event.before(), event.after()), event.after());
+    }
+
+    @EventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        append(EntityType.DEPARTMENT, event.departmentId(), operation(event.before(), event.after()), event.after());
+    }
+
+    private void append(EntityType entityType, Long entityId, Operation operation, Object after) {
+        PendingChange change = new PendingChange(entityType, entityId, operation, LocalDateTime.now(), toJson(after));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            watermark.insertedAndCommitted(() -> insert(List.of(change)));
+            changeFeedService.changesCommitted();
+            return;
+        }
+        OutboxBuffer buffer = (OutboxBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new OutboxBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.changes.add(change);
+    }
+
+    // Returns the seqs the database assigned to the rows
+    private long[] insert(List<PendingChange> changes) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"seq"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingChange change = changes.get(i);
+                        ps.setString(1, change.entityType().name());
+                        ps.setLong(2, change.entityId());
+                        ps.setString(3, change.operation().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(change.occurredAt()));
+                        ps.setObject(5, change.data(), Types.VARCHAR);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return changes.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> rows = keys.getKeyList();
+        long[] seqs = new long[rows.size()];
+        for (int i = 0; i < seqs.length; i++) {
+            seqs[i] = ((Number) rows.get(i).values().iterator().next()).longValue();
+        }
+        return seqs;
+    }
+
+    private String toJson(Object after) {
+        if (after == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(after);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change of " + after, e);
+        }
+    }
+
+    private static Operation operation(Object before, Object after) {
+        return before == null ? Operation.CREATED : after == null ? Operation.DELETED : Operation.UPDATED;
+    }
+
+    private record PendingChange(EntityType entityType, Long entityId, Operation operation,
+                                 LocalDateTime occurredAt, String data) {
+    }
+
+    private final class OutboxBuffer implements TransactionSynchronization {
+        private final List<PendingChange> changes = new ArrayList<>();
+        private Long lowestSeq;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            lowestSeq = watermark.inserted(() -> insert(changes));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeOutboxWriter.this);
+            if (lowestSeq != null) {
+                watermark.completed(lowestSeq);
+                // A rollback also releases changes that later transactions have already committed
+                changeFeedService.changesCommitted();
+            }
+        }
+    }
+}
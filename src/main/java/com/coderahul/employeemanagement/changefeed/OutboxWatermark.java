@@ -0,0 +1,96 @@
+package com.coderahul.employeemanagement.changefeed;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Tracks outbox seqs that have been inserted but not yet committed, so the feed never hands out a
+ * seq while a lower one can still commit. Seqs are allocated by the insert, and transactions commit
+ * in any order; {@link #visibleThrough} is the highest seq below every transaction still in flight.
+ * The lock covers only the insert and the bookkeeping around it, not the commit.
+ * <p>
+ * Only this JVM's transactions are tracked; with several instances on one database the feed can
+ * skip a change that another instance commits late.
+ */
+@Component
+public class OutboxWatermark {
+
+    private static final String MAX_SEQ_SQL = "SELECT MAX(seq) FROM change_events";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Lowest seq of every transaction that has inserted outbox rows and not completed
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+
+    @Autowired
+    public OutboxWatermark(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Runs {@code insert}, which returns the seqs it was given, and holds the lowest of them back
+     * from readers until {@link #completed} is called with it.
+     */
+    public long inserted(Supplier<long[]> insert) {
+        lock.lock();
+        try {
+            long lowest = Long.MAX_VALUE;
+            for (long seq : insert.get()) {
+                lowest = Math.min(lowest, seq);
+            }
+            inFlight.add(lowest);
+            return lowest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the seqs of a transaction that has committed or rolled back.
+     */
+    public void completed(long lowest) {
+        lock.lock();
+        try {
+            inFlight.remove(lowest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code insert} in auto-commit mode: its rows are committed before the lock is released.
+     */
+    public void insertedAndCommitted(Runnable insert) {
+        lock.lock();
+        try {
+            insert.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The highest seq a feed reader may return: every change up to it has committed or rolled
+     * back. With nothing in flight that is the latest committed seq, read under the lock so that
+     * a seq inserted afterwards is higher; the query uses the primary, since it runs outside a
+     * transaction.
+     */
+    public long visibleThrough() {
+        lock.lock();
+        try {
+            if (!inFlight.isEmpty()) {
+                return inFlight.first() - 1;
+            }
+            Long head = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class);
+            return head != null ? head : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
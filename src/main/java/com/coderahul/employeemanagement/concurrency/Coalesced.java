@@ -0,0 +1,18 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read method whose concurrent identical calls can share one execution (see
+ * {@link RequestCoalescer}). The arguments must implement {@code equals}, and callers must not
+ * modify the result, which is handed to every caller in the burst; lists are returned unmodifiable.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
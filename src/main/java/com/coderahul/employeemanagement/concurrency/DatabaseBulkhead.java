@@ -0,0 +1,68 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import com.coderahul.employeemanagement.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of threads inside the service layer, and therefore holding a JDBC
+ * connection, at the connection pool size. Runs outside the transaction interceptor so waiting
+ * callers park on the semaphore (cheap for virtual threads) rather than inside Hikari or a JDBC
+ * driver. Nested service calls on the same thread reuse the permit they already hold.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.db.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseBulkhead {
+
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration acquireTimeout;
+
+    @Autowired
+    public DatabaseBulkhead(@Value("${app.db.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+                            @Value("${app.db.bulkhead.acquire-timeout:30s}") Duration acquireTimeout,
+                            MeterRegistry meterRegistry) {
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("app.db.bulkhead.active", () -> maxConcurrent - permits.availablePermits())
+                .description("Service calls currently holding a database permit")
+                .register(meterRegistry);
+        Gauge.builder("app.db.bulkhead.queued", permits::getQueueLength)
+                .description("Service calls waiting for a database permit")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(public * com.coderahul.employeemanagement.service..*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (holdsPermit.get()) {
+            return joinPoint.proceed();
+        }
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new DatabaseBusyException("All " + maxConcurrent + " database permits busy for " + acquireTimeout);
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            holdsPermit.remove();
+            permits.release();
+        }
+    }
+}
\ No newline at end of file
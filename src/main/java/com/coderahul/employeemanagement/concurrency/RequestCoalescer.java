@@ -0,0 +1,163 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight for {@link Coalesced} service methods: while a call is running, identical calls
+ * (same method, equal arguments) wait for it and get its result or exception instead of running
+ * their own query. With {@code app.coalescing.window} above zero, a completed result keeps being
+ * handed out for that long. Runs outside the bulkhead and the transaction interceptor, so waiting
+ * callers hold neither a permit nor a connection.
+ * <p>
+ * Every committed employee or department change starts a new generation, and calls only share
+ * within a generation: a read that starts after a write has committed never gets a result that
+ * was read before it. Callers whose reads are pinned to the primary (see
+ * {@link ReplicaRoutingDataSource}) only share with each other, never with a replica read. Calls
+ * made inside a transaction run on their own, since they may need to see that transaction's
+ * uncommitted writes.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "app.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestCoalescer {
+
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Method, Outcomes> outcomes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long windowNanos;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RequestCoalescer(@Value("${app.coalescing.window:0ms}") Duration window, MeterRegistry meterRegistry) {
+        this.windowNanos = window.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.coderahul.employeemanagement.concurrency.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Outcomes counters = outcomes.computeIfAbsent(method, this::outcomes);
+        Key key = new Key(method, Arrays.asList(joinPoint.getArgs()), generation.get(),
+                ReplicaRoutingDataSource.readsFromPrimary());
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.result.isDone()) {
+                    counters.joined.increment();
+                    return await(flight);
+                }
+                if (System.nanoTime() - flight.expiresAt < 0) {
+                    counters.cached.increment();
+                    return await(flight);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+            Flight mine = new Flight();
+            if (flights.putIfAbsent(key, mine) != null) {
+                continue;
+            }
+            counters.executed.increment();
+            return lead(joinPoint, key, mine);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Object lead(ProceedingJoinPoint joinPoint, Key key, Flight flight) throws Throwable {
+        Object result;
+        try {
+            result = shareable(joinPoint.proceed());
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        flight.expiresAt = System.nanoTime() + windowNanos;
+        flight.result.complete(result);
+        if (windowNanos <= 0) {
+            flights.remove(key, flight);
+        } else {
+            CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> flights.remove(key, flight));
+        }
+        return result;
+    }
+
+    private static Object await(Flight flight) throws Throwable {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object shareable(Object result) {
+        return result instanceof List<?> list ? Collections.unmodifiableList(list) : result;
+    }
+
+    private Outcomes outcomes(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new Outcomes(outcome(name, "executed"), outcome(name, "joined"), outcome(name, "cached"));
+    }
+
+    private Counter outcome(String method, String outcome) {
+        return Counter.builder("app.coalescing.calls")
+                .description("Coalesced service calls by whether they ran, joined a running call or reused a result")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Key(Method method, List<Object> args, long generation, boolean primary) {
+    }
+
+    private record Outcomes(Counter executed, Counter joined, Counter cached) {
+    }
+
+    private static final class Flight {
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        volatile long expiresAt;
+    }
+}
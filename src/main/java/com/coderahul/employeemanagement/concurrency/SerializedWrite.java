@@ -0,0 +1,18 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-modify-write of one row whose id is the method's first argument (see
+ * {@link WriteSerializer}). Calls for the same id run one at a time, and a call that loses an
+ * optimistic-lock race to another writer is run again, so it must be safe to repeat.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SerializedWrite {
+}
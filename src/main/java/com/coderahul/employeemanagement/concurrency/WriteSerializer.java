@@ -0,0 +1,130 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import com.coderahul.employeemanagement.exception.StaleVersionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs {@link SerializedWrite} methods one at a time per row, on a fixed set of lock stripes
+ * picked by id, so concurrent edits of the same employee queue up instead of failing on its
+ * version, while writes to other employees (and so other departments) only meet on the rare
+ * shared stripe. The lock is taken outside the bulkhead and the transaction, and released after
+ * commit: waiters hold neither a permit nor a connection, and the next writer reads the committed
+ * row.
+ * <p>
+ * Writers that do not take the stripes (bulk adjustments, batches, other instances) are still
+ * caught by the {@code @Version} check at flush. A call that loses that race is run again after an
+ * exponential, jittered backoff, up to {@code app.write-serializer.max-attempts} times. A stale
+ * version sent by the client ({@link StaleVersionException}) would fail the same way on every
+ * attempt, so it surfaces at once. Calls made inside a caller's transaction run as they are, since
+ * neither the lock nor a retry can outlast that transaction.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 7)
+@ConditionalOnProperty(name = "app.write-serializer.enabled", havingValue = "true", matchIfMissing = true)
+public class WriteSerializer {
+
+    private final ReentrantLock[] stripes;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WriteSerializer(@Value("${app.write-serializer.stripes:1024}") int stripes,
+                           @Value("${app.write-serializer.max-attempts:4}") int maxAttempts,
+                           @Value("${app.write-serializer.backoff:5ms}") Duration backoff,
+                           MeterRegistry meterRegistry) {
+        // Power of two, so the stripe is a mask of the spread hash
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = backoff.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.coderahul.employeemanagement.concurrency.SerializedWrite)")
+    public Object serialize(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object id = joinPoint.getArgs().length > 0 ? joinPoint.getArgs()[0] : null;
+        if (id == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Meters counters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(), this::meters);
+        ReentrantLock lock = stripe(id);
+        for (int attempt = 1; ; attempt++) {
+            long waitStart = System.nanoTime();
+            lock.lockInterruptibly();
+            counters.lockWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            try {
+                return joinPoint.proceed();
+            } catch (StaleVersionException e) {
+                throw e;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    counters.exhausted.increment();
+                    throw e;
+                }
+                counters.retried.increment();
+            } finally {
+                lock.unlock();
+            }
+            long ceiling = backoffNanos << Math.min(attempt - 1, 16);
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        }
+    }
+
+    private ReentrantLock stripe(Object id) {
+        int hash = id.hashCode() * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private Meters meters(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        return new Meters(
+                Timer.builder("app.write-serializer.lock.wait")
+                        .description("Time spent waiting for the row's lock stripe")
+                        .tag("method", name)
+                        .register(meterRegistry),
+                retries(name, "retried"),
+                retries(name, "exhausted"));
+    }
+
+    private Counter retries(String method, String outcome) {
+        return Counter.builder("app.write-serializer.retries")
+                .description("Serialized writes that lost an optimistic-lock race, by whether they were retried or gave up")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Meters(Timer lockWait, Counter retried, Counter exhausted) {
+    }
+}
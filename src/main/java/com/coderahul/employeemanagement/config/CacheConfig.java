@@ -0,0 +1,19 @@
+package com.coderahul.employeemanagement.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache names used by the service layer. Size and TTL are configured with
+ * {@code spring.cache.caffeine.spec}; hit/miss/eviction metrics are published by actuator
+ * as {@code cache.gets}, {@code cache.puts} and {@code cache.evictions}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String EMPLOYEE_IDS_BY_EMAIL = "employeeIdsByEmail";
+    public static final String DEPARTMENTS = "departments";
+    public static final String DEPARTMENT_IDS_BY_NAME = "departmentIdsByName";
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.coderahul.employeemanagement.config;
+
+import com.coderahul.employeemanagement.EmployeeManagementApplication;
+import com.coderahul.employeemanagement.instrumentation.HibernateProfilingListener;
+import com.coderahul.employeemanagement.instrumentation.ProfilingAsyncInterceptor;
+import com.coderahul.employeemanagement.instrumentation.ProfilingDataSource;
+import com.coderahul.employeemanagement.instrumentation.RequestProfilingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-request profiling of the application's controllers (see {@link RequestProfilingFilter}).
+ * The metrics are scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig implements WebMvcConfigurer {
+
+    /**
+     * Wraps the connection pools. Delegating DataSources (the replica router's lazy proxy, or one
+     * already wrapped) pass through, so a statement is only counted once.
+     */
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)
+                        ? new ProfilingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer profilingHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateProfilingListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new HibernateProfilingListener());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.profiling.slow-request-threshold:500ms}") Duration slowRequestThreshold,
+            @Value("${app.profiling.max-captured-statements:50}") int maxCapturedStatements) {
+        RequestProfilingFilter filter = new RequestProfilingFilter(meterRegistry,
+                EmployeeManagementApplication.class.getPackageName(), slowRequestThreshold, maxCapturedStatements);
+        FilterRegistrationBean<RequestProfilingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ProfilingAsyncInterceptor());
+    }
+}
@@ -0,0 +1,44 @@
+package com.coderahul.employeemanagement.config;
+
+import com.coderahul.employeemanagement.directory.OrgDirectoryHttpMessageConverter;
+import com.coderahul.employeemanagement.serialization.EntitySerializationModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Response formats. JSON stays the default; {@code Accept: application/cbor} or
+ * {@code application/x-jackson-smile} gets the same document in a binary encoding. The binary
+ * converters are built from Boot's {@link Jackson2ObjectMapperBuilder}, so they share the JSON
+ * mapper's settings and modules (dates as ISO strings, {@link EntitySerializationModule}); the
+ * ones Spring MVC would add by itself use plain Jackson defaults. The org directory writes its
+ * JSON from pre-encoded bytes. Compression is configured under {@code server.compression.*}.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public Module entitySerializationModule() {
+        return new EntitySerializationModule();
+    }
+
+    @Bean
+    public OrgDirectoryHttpMessageConverter orgDirectoryHttpMessageConverter() {
+        return new OrgDirectoryHttpMessageConverter();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,89 @@
+package com.coderahul.employeemanagement.controller;
+
+import com.coderahul.employeemanagement.dto.AnalyticsFilter;
+import com.coderahul.employeemanagement.dto.DepartmentAggregate;
+import com.coderahul.employeemanagement.dto.SalaryHistogram;
+import com.coderahul.employeemanagement.dto.SalaryPercentiles;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.service.EmployeeAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+@Tag(name = "Analytics", description = "Payroll and headcount reporting from the in-memory columnar snapshot")
+public class AnalyticsController {
+
+    private static final int MAX_BUCKETS = 1000;
+
+    private final EmployeeAnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(EmployeeAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/departments")
+    @Operation(summary = "Headcount and payroll by department", description = "Group matching employees by department")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One entry per department with matching employees")
+    })
+    public ResponseEntity<List<DepartmentAggregate>> groupByDepartment(
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Hired on or after") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @Parameter(description = "Hired on or before") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo) {
+        AnalyticsFilter filter = new AnalyticsFilter(null, status, hiredFrom, hiredTo);
+        return ResponseEntity.ok(analyticsService.groupByDepartment(filter));
+    }
+
+    @GetMapping("/salary/percentiles")
+    @Operation(summary = "Salary percentiles", description = "Exact nearest-rank percentiles of matching salaries")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Requested percentiles"),
+            @ApiResponse(responseCode = "400", description = "Percentile outside (0, 100]")
+    })
+    public ResponseEntity<SalaryPercentiles> getSalaryPercentiles(
+            @Parameter(description = "Department ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Hired on or after") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @Parameter(description = "Hired on or before") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @Parameter(description = "Percentiles to compute") @RequestParam(defaultValue = "50,90,99") double[] p) {
+        for (double percentile : p) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentiles must be in (0, 100]");
+            }
+        }
+        AnalyticsFilter filter = new AnalyticsFilter(departmentId, status, hiredFrom, hiredTo);
+        return ResponseEntity.ok(analyticsService.getSalaryPercentiles(filter, p));
+    }
+
+    @GetMapping("/salary/histogram")
+    @Operation(summary = "Salary histogram", description = "Equal-width buckets between the lowest and highest matching salary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Histogram buckets"),
+            @ApiResponse(responseCode = "400", description = "Invalid bucket count")
+    })
+    public ResponseEntity<SalaryHistogram> getSalaryHistogram(
+            @Parameter(description = "Department ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Hired on or after") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @Parameter(description = "Hired on or before") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @Parameter(description = "Number of buckets (1-" + MAX_BUCKETS + ")") @RequestParam(defaultValue = "20") int buckets) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        AnalyticsFilter filter = new AnalyticsFilter(departmentId, status, hiredFrom, hiredTo);
+        return ResponseEntity.ok(analyticsService.getSalaryHistogram(filter, buckets));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.coderahul.employeemanagement.controller;
+
+import com.coderahul.employeemanagement.dto.ChangeBatch;
+import com.coderahul.employeemanagement.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "*")
+@Tag(name = "Change Feed", description = "Employee and department changes in commit order")
+public class ChangeFeedController {
+
+    private static final int MAX_WAIT_SECONDS = 60;
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final ChangeFeedService changeFeedService;
+
+    @Autowired
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Read the change feed",
+            description = "Changes with a seq greater than since, oldest first. With wait > 0 the request is held " +
+                    "until a change commits or wait seconds have passed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes, possibly none"),
+            @ApiResponse(responseCode = "400", description = "Invalid since, limit or wait"),
+            @ApiResponse(responseCode = "410", description = "Changes after since have been pruned; resync")
+    })
+    public DeferredResult<ChangeBatch> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "" + ChangeFeedService.DEFAULT_LIMIT) int limit,
+            @Parameter(description = "Seconds to wait for a change when there is none, at most " + MAX_WAIT_SECONDS)
+            @RequestParam(defaultValue = "0") int wait) {
+        if (since < 0 || limit < 1 || limit > ChangeFeedService.MAX_LIMIT || wait < 0 || wait > MAX_WAIT_SECONDS) {
+            throw new IllegalArgumentException("since must be >= 0, limit between 1 and " + ChangeFeedService.MAX_LIMIT
+                    + ", wait between 0 and " + MAX_WAIT_SECONDS);
+        }
+        return changeFeedService.awaitChanges(since, limit, Duration.ofSeconds(wait));
+    }
+
+    @GetMapping("/head")
+    @Operation(summary = "Latest change", description = "The seq to follow the feed from after a full resync")
+    public ResponseEntity<Map<String, Long>> getHead() {
+        return ResponseEntity.ok(Map.of("seq", changeFeedService.getHead()));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the change feed",
+            description = "Server-sent 'changes' events with a ChangeBatch each, starting after since or Last-Event-ID")
+    public SseEmitter streamChanges(@RequestParam(defaultValue = "0") long since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        changeFeedService.subscribe(lastEventId != null ? Math.max(since, lastEventId) : since, emitter);
+        return emitter;
+    }
+}
@@ -1,7 +1,18 @@
 package com.coderahul.employeemanagement.controller;
 
+import com.coderahul.employeemanagement.cache.ResourceVersions;
+import com.coderahul.employeemanagement.directory.OrgDirectory;
+import com.coderahul.employeemanagement.dto.DepartmentBatchGetRequest;
+import com.coderahul.employeemanagement.dto.DepartmentBatchGetResult;
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentStats;
+import com.coderahul.employeemanagement.dto.SalaryDistribution;
+import com.coderahul.employeemanagement.dto.StatsConsistencyReport;
 import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
 import com.coderahul.employeemanagement.service.DepartmentService;
+import com.coderahul.employeemanagement.service.DepartmentStatsService;
+import com.coderahul.employeemanagement.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,11 +20,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -21,11 +36,20 @@ import java.util.List;
 @Tag(name = "Department", description = "Department management operations")
 public class DepartmentController {
 
+    private static final int MAX_HISTOGRAM_BUCKETS = 100;
+
     private final DepartmentService departmentService;
+    private final DepartmentStatsService departmentStatsService;
+    private final ResourceVersions resourceVersions;
+    private final OrgDirectory orgDirectory;
 
     @Autowired
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, DepartmentStatsService departmentStatsService,
+                                ResourceVersions resourceVersions, OrgDirectory orgDirectory) {
         this.departmentService = departmentService;
+        this.departmentStatsService = departmentStatsService;
+        this.resourceVersions = resourceVersions;
+        this.orgDirectory = orgDirectory;
     }
 
     @GetMapping
@@ -33,13 +57,18 @@ public class DepartmentController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved departments")
     })
-    public ResponseEntity<List<Department>> getAllDepartments() {
-        List<Department> departments = departmentService.getAllDepartments();
+    public ResponseEntity<List<DepartmentDto>> getAllDepartments() {
+        List<DepartmentDto> departments = departmentService.getAllDepartments();
         return ResponseEntity.ok(departments);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Department> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<Department> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        // The body embeds the employees, so it is versioned by the department's stamp, not its @Version
+        ResourceVersions.Stamp stamp = resourceVersions.department(id);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModifiedMillis())) {
+            return null;
+        }
         return departmentService.getDepartmentById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -68,12 +97,39 @@ public class DepartmentController {
         }
     }
 
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get departments by ids",
+            description = "Looks up to " + EmployeeService.MAX_BATCH_GET_KEYS + " ids in one request. " +
+                    "Found departments come back in request order; ids that matched nothing are listed separately.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Departments found, and the ids not found"),
+            @ApiResponse(responseCode = "400", description = "No ids, a null id, or too many ids")
+    })
+    public ResponseEntity<DepartmentBatchGetResult> getDepartmentsBatch(@RequestBody DepartmentBatchGetRequest request) {
+        List<Long> ids = request.ids() != null ? request.ids() : List.of();
+        if (ids.isEmpty() || ids.size() > EmployeeService.MAX_BATCH_GET_KEYS) {
+            throw new IllegalArgumentException("ids must hold between 1 and " + EmployeeService.MAX_BATCH_GET_KEYS + " ids");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+        return ResponseEntity.ok(departmentService.getDepartmentsBatch(ids));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Department> updateDepartment(@PathVariable Long id, 
-                                                     @Valid @RequestBody Department departmentDetails) {
+                                                     @Valid @RequestBody Department departmentDetails,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            departmentDetails.setVersion(ResourceVersions.parseEntityTag(ifMatch));
+        }
         try {
             Department updatedDepartment = departmentService.updateDepartment(id, departmentDetails);
-            return ResponseEntity.ok(updatedDepartment);
+            return ResponseEntity.ok()
+                    .eTag(ResourceVersions.entityTag(updatedDepartment.getVersion()))
+                    .body(updatedDepartment);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -90,18 +146,92 @@ public class DepartmentController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Department>> searchDepartmentsByName(@RequestParam String name) {
-        List<Department> departments = departmentService.searchDepartmentsByName(name);
+    public ResponseEntity<List<DepartmentDto>> searchDepartmentsByName(@RequestParam String name) {
+        List<DepartmentDto> departments = departmentService.searchDepartmentsByName(name);
         return ResponseEntity.ok(departments);
     }
 
     @GetMapping("/with-employees")
-    @Operation(summary = "Get departments with employees", description = "Retrieve all departments including their employee details")
+    @Operation(summary = "Get departments with employees",
+            description = "Retrieve all departments including their employee details, from the in-memory org directory")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved departments with employees")
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved departments with employees"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent")
     })
-    public ResponseEntity<List<Department>> getAllDepartmentsWithEmployees() {
-        List<Department> departments = departmentService.getAllDepartmentsWithEmployees();
-        return ResponseEntity.ok(departments);
+    public ResponseEntity<OrgDirectory.View> getAllDepartmentsWithEmployees(WebRequest request) {
+        // The directory is refreshed after commit, so its view carries its own ETag
+        OrgDirectory.View view = orgDirectory.view();
+        if (request.checkNotModified(view.etag(), view.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(view);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get statistics for all departments",
+            description = "Employee count and salary total/average/min/max per department from the precomputed statistics store")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved department statistics")
+    })
+    public ResponseEntity<List<DepartmentStats>> getAllDepartmentStats() {
+        return ResponseEntity.ok(departmentStatsService.getAllDepartmentStats());
+    }
+
+    @GetMapping("/stats/verify")
+    @Operation(summary = "Verify department statistics", description = "Compare the statistics store against a full aggregate query")
+    public ResponseEntity<StatsConsistencyReport> verifyDepartmentStats() {
+        return ResponseEntity.ok(departmentStatsService.verify());
+    }
+
+    @GetMapping("/{id}/salary-distribution")
+    @Operation(summary = "Get department salary distribution",
+            description = "Percentiles, histogram, min/max and average salary from the streaming salary sketches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Salary distribution"),
+            @ApiResponse(responseCode = "400", description = "Invalid percentile or bucket count"),
+            @ApiResponse(responseCode = "404", description = "Department not found")
+    })
+    public ResponseEntity<SalaryDistribution> getDepartmentSalaryDistribution(
+            @Parameter(description = "Department ID") @PathVariable Long id,
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Percentiles to compute") @RequestParam(defaultValue = "25,50,75,90,99") double[] p,
+            @Parameter(description = "Number of histogram buckets (1-" + MAX_HISTOGRAM_BUCKETS + ")") @RequestParam(defaultValue = "10") int buckets) {
+        validateDistributionParameters(p, buckets);
+        return departmentStatsService.getDepartmentSalaryDistribution(id, status != null ? status : List.of(), p, buckets)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/salary-distribution")
+    @Operation(summary = "Get company-wide salary distribution",
+            description = "Percentiles, histogram, min/max and average salary over all employees, including those without a department")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Salary distribution"),
+            @ApiResponse(responseCode = "400", description = "Invalid percentile or bucket count")
+    })
+    public ResponseEntity<SalaryDistribution> getCompanySalaryDistribution(
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Percentiles to compute") @RequestParam(defaultValue = "25,50,75,90,99") double[] p,
+            @Parameter(description = "Number of histogram buckets (1-" + MAX_HISTOGRAM_BUCKETS + ")") @RequestParam(defaultValue = "10") int buckets) {
+        validateDistributionParameters(p, buckets);
+        return ResponseEntity.ok(departmentStatsService.getCompanySalaryDistribution(status != null ? status : List.of(), p, buckets));
+    }
+
+    @PostMapping("/stats/rebuild")
+    @Operation(summary = "Rebuild department statistics", description = "Reload the statistics store from the employees table")
+    public ResponseEntity<StatsConsistencyReport> rebuildDepartmentStats() {
+        departmentStatsService.rebuild();
+        return ResponseEntity.ok(departmentStatsService.verify());
+    }
+
+    private static void validateDistributionParameters(double[] percentiles, int buckets) {
+        for (double percentile : percentiles) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("percentiles must be in (0, 100]");
+            }
+        }
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new IllegalArgumentException("buckets must be between 1 and " + MAX_HISTOGRAM_BUCKETS);
+        }
     }
 }
\ No newline at end of file
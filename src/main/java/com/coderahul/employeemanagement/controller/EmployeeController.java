@@ -1,8 +1,26 @@
 package com.coderahul.employeemanagement.controller;
 
+import com.coderahul.employeemanagement.cache.ResourceVersions;
+import com.coderahul.employeemanagement.dto.CursorPage;
+import com.coderahul.employeemanagement.dto.EmployeeBatchGetRequest;
+import com.coderahul.employeemanagement.dto.EmployeeBatchGetResult;
+import com.coderahul.employeemanagement.dto.EmployeeBatchRequest;
+import com.coderahul.employeemanagement.dto.EmployeeBatchResult;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
+import com.coderahul.employeemanagement.dto.EmployeeSort;
+import com.coderahul.employeemanagement.dto.ImportResult;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentRequest;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentResult;
 import com.coderahul.employeemanagement.entity.Employee;
 import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.service.EmployeeBatchService;
+import com.coderahul.employeemanagement.service.EmployeeImportService;
 import com.coderahul.employeemanagement.service.EmployeeService;
+import com.coderahul.employeemanagement.service.SalaryAdjustmentService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,13 +29,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -25,34 +54,134 @@ import java.util.List;
 @Tag(name = "Employee", description = "Employee management operations")
 public class EmployeeController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final SalaryAdjustmentService salaryAdjustmentService;
+    private final EmployeeBatchService employeeBatchService;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService,
+                              EmployeeImportService employeeImportService,
+                              SalaryAdjustmentService salaryAdjustmentService,
+                              EmployeeBatchService employeeBatchService,
+                              ObjectMapper objectMapper,
+                              ResourceVersions resourceVersions) {
         this.employeeService = employeeService;
+        this.employeeImportService = employeeImportService;
+        this.salaryAdjustmentService = salaryAdjustmentService;
+        this.employeeBatchService = employeeBatchService;
+        this.objectMapper = objectMapper;
+        this.resourceVersions = resourceVersions;
     }
 
     @GetMapping
-    @Operation(summary = "Get all employees", description = "Retrieve a list of all employees")
+    @Operation(summary = "Get all employees",
+            description = "Retrieve all employees, or a single keyset page ordered by id when 'after' or 'limit' is given")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved employees"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
     })
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        List<Employee> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<?> getAllEmployees(
+            @Parameter(description = "Return employees with an id greater than this cursor") @RequestParam(required = false) Long after,
+            @Parameter(description = "Maximum page size (1-" + MAX_PAGE_SIZE + ")") @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        // Sets ETag and Last-Modified; on a match the response is a 304 and nothing is read
+        ResourceVersions.Stamp stamp = resourceVersions.all();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModifiedMillis())) {
+            return null;
+        }
+        if (after == null && limit == null) {
+            List<EmployeeDto> employees = employeeService.getAllEmployees();
+            return ResponseEntity.ok(employees);
+        }
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE || (after != null && after < 0)) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + " and after must not be negative");
+        }
+        CursorPage<EmployeeDto> page = employeeService.getEmployeesPage(after, pageSize);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "Query employees",
+            description = "Combine any of the filters in one query, ordered by id, hireDate or salary and paged by cursor. "
+                    + "Sorting by salary leaves out employees without a salary.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One page of matching employees"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, sort key, cursor or limit")
+    })
+    public ResponseEntity<CursorPage<EmployeeDto>> queryEmployees(
+            @Parameter(description = "Department ids, any of") @RequestParam(required = false) List<Long> departmentId,
+            @Parameter(description = "Employment statuses, any of") @RequestParam(required = false) List<EmploymentStatus> status,
+            @Parameter(description = "Hired on or after") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @Parameter(description = "Hired on or before") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+            @Parameter(description = "Minimum salary, inclusive") @RequestParam(required = false) BigDecimal minSalary,
+            @Parameter(description = "Maximum salary, inclusive") @RequestParam(required = false) BigDecimal maxSalary,
+            @Parameter(description = "Sort field (id, hireDate, salary), optionally followed by ,asc or ,desc") @RequestParam(defaultValue = "id") String sort,
+            @Parameter(description = "nextCursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum page size (1-" + MAX_PAGE_SIZE + ")") @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String[] sortParts = sort.split(",", -1);
+        if (sortParts.length > 2 || (sortParts.length == 2 && !sortParts[1].equalsIgnoreCase("asc") && !sortParts[1].equalsIgnoreCase("desc"))) {
+            throw new IllegalArgumentException("sort must be a field name, optionally followed by ,asc or ,desc");
+        }
+        boolean descending = sortParts.length == 2 && sortParts[1].equalsIgnoreCase("desc");
+        EmployeeQuery query = new EmployeeQuery(departmentId, status, hiredFrom, hiredTo, minSalary, maxSalary,
+                EmployeeSort.fromProperty(sortParts[0]), descending);
+        return ResponseEntity.ok(employeeService.queryEmployees(query, cursor, limit));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "Export all employees", description = "Stream every employee as newline-delimited JSON, ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed successfully")
+    })
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.writeValue(out, employee);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     public ResponseEntity<Employee> getEmployeeById(
-            @Parameter(description = "Employee ID") @PathVariable Long id) {
-        return employeeService.getEmployeeById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+            @Parameter(description = "Employee ID") @PathVariable Long id, WebRequest request) {
+        // Served from the entity cache, so a revalidation normally does not reach the database
+        Employee employee = employeeService.getEmployeeById(id).orElse(null);
+        if (employee == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(ResourceVersions.entityTag(employee.getVersion()))) {
+            return null;
+        }
+        return ResponseEntity.ok(employee);
     }
 
     @GetMapping("/email/{email}")
@@ -78,12 +207,96 @@ public class EmployeeController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Bulk import employees from CSV",
+            description = "Header row required: firstName,lastName,email,phoneNumber,hireDate,salary,departmentId,employmentStatus")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row errors"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid header")
+    })
+    public ResponseEntity<ImportResult> importEmployeesCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(employeeImportService.importCsv(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @Operation(summary = "Bulk import employees from NDJSON", description = "One employee JSON object per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row errors")
+    })
+    public ResponseEntity<ImportResult> importEmployeesNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(employeeImportService.importNdjson(body));
+    }
+
+    @PostMapping("/salary-adjustments")
+    @Operation(summary = "Raise salaries in bulk",
+            description = "Raises every salaried employee matching all given selectors (departmentIds, statuses, employeeIds) " +
+                    "by a percentage or a fixed amount, in chunks of one transaction each. Set dryRun to preview without writing.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Adjustment finished (or previewed), with per-chunk reports"),
+            @ApiResponse(responseCode = "400", description = "No selector, or not exactly one positive percentage or amount")
+    })
+    public ResponseEntity<SalaryAdjustmentResult> adjustSalaries(@RequestBody SalaryAdjustmentRequest request) {
+        return ResponseEntity.ok(salaryAdjustmentService.adjustSalaries(request));
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get employees by ids and emails",
+            description = "Looks up to " + EmployeeService.MAX_BATCH_GET_KEYS + " ids and emails in one request. " +
+                    "Found employees come back in request order; keys that matched nothing are listed separately.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees found, and the ids and emails not found"),
+            @ApiResponse(responseCode = "400", description = "No keys, a null key, or too many keys")
+    })
+    public ResponseEntity<EmployeeBatchGetResult> getEmployeesBatch(@RequestBody EmployeeBatchGetRequest request) {
+        List<Long> ids = request.ids() != null ? request.ids() : List.of();
+        List<String> emails = request.emails() != null ? request.emails() : List.of();
+        int keys = ids.size() + emails.size();
+        if (keys == 0 || keys > EmployeeService.MAX_BATCH_GET_KEYS) {
+            throw new IllegalArgumentException("ids and emails must hold between 1 and " + EmployeeService.MAX_BATCH_GET_KEYS + " keys");
+        }
+        if (ids.stream().anyMatch(Objects::isNull) || emails.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids and emails must not contain null");
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesBatch(ids, emails));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Apply employee operations in bulk",
+            description = "Applies up to " + EmployeeBatchService.MAX_OPERATIONS + " CREATE, UPDATE, TERMINATE and DELETE " +
+                    "operations in order, in chunks of one transaction each. Each operation gets the status its own " +
+                    "endpoint would return; a failed operation does not stop the others. An employee may appear in " +
+                    "only one operation, and a version, when given, must be current.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch finished, see per-operation results"),
+            @ApiResponse(responseCode = "400", description = "No operations, or too many")
+    })
+    public ResponseEntity<EmployeeBatchResult> applyEmployeeBatch(@RequestBody EmployeeBatchRequest request) {
+        return ResponseEntity.ok(employeeBatchService.apply(request));
+    }
+
     @PutMapping("/{id}")
+    @Operation(summary = "Update employee",
+            description = "Replaces the employee. With If-Match (the ETag of GET /api/employees/{id}) or a version in " +
+                    "the body, the update only applies to that version")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee updated, with its new ETag"),
+            @ApiResponse(responseCode = "404", description = "Employee not found"),
+            @ApiResponse(responseCode = "409", description = "The body's version is no longer current"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version")
+    })
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, 
-                                                 @Valid @RequestBody Employee employeeDetails) {
+                                                 @Valid @RequestBody Employee employeeDetails,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            employeeDetails.setVersion(ResourceVersions.parseEntityTag(ifMatch));
+        }
         try {
             Employee updatedEmployee = employeeService.updateEmployee(id, employeeDetails);
-            return ResponseEntity.ok(updatedEmployee);
+            return ResponseEntity.ok()
+                    .eTag(ResourceVersions.entityTag(updatedEmployee.getVersion()))
+                    .body(updatedEmployee);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -106,36 +319,50 @@ public class EmployeeController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Employee>> searchEmployeesByName(@RequestParam String name) {
-        List<Employee> employees = employeeService.searchEmployeesByName(name);
+    @Operation(summary = "Search employees", description = "Ranked, typo-tolerant search over first name, last name and email")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching employees, best match first"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public ResponseEntity<List<EmployeeDto>> searchEmployeesByName(
+            @Parameter(description = "Name or email fragment") @RequestParam String name,
+            @Parameter(description = "Maximum number of results (1-" + MAX_SEARCH_RESULTS + ")") @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        List<EmployeeDto> employees = employeeService.searchEmployeesByName(name, limit);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<List<Employee>> getEmployeesByDepartment(@PathVariable Long departmentId) {
-        List<Employee> employees = employeeService.getEmployeesByDepartment(departmentId);
+    public ResponseEntity<List<EmployeeDto>> getEmployeesByDepartment(@PathVariable Long departmentId, WebRequest request) {
+        ResourceVersions.Stamp stamp = resourceVersions.department(departmentId);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModifiedMillis())) {
+            return null;
+        }
+        List<EmployeeDto> employees = employeeService.getEmployeesByDepartment(departmentId);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Employee>> getEmployeesByStatus(@PathVariable EmploymentStatus status) {
-        List<Employee> employees = employeeService.getEmployeesByStatus(status);
+    public ResponseEntity<List<EmployeeDto>> getEmployeesByStatus(@PathVariable EmploymentStatus status) {
+        List<EmployeeDto> employees = employeeService.getEmployeesByStatus(status);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/hired-between")
-    public ResponseEntity<List<Employee>> getEmployeesByHireDateRange(
+    public ResponseEntity<List<EmployeeDto>> getEmployeesByHireDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<Employee> employees = employeeService.getEmployeesByHireDateRange(startDate, endDate);
+        List<EmployeeDto> employees = employeeService.getEmployeesByHireDateRange(startDate, endDate);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/salary-range")
-    public ResponseEntity<List<Employee>> getEmployeesBySalaryRange(
+    public ResponseEntity<List<EmployeeDto>> getEmployeesBySalaryRange(
             @RequestParam BigDecimal minSalary,
             @RequestParam BigDecimal maxSalary) {
-        List<Employee> employees = employeeService.getEmployeesBySalaryRange(minSalary, maxSalary);
+        List<EmployeeDto> employees = employeeService.getEmployeesBySalaryRange(minSalary, maxSalary);
         return ResponseEntity.ok(employees);
     }
 
@@ -157,6 +384,8 @@ public class EmployeeController {
         try {
             Employee promotedEmployee = employeeService.promoteEmployee(id, newSalary);
             return ResponseEntity.ok(promotedEmployee);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -167,6 +396,8 @@ public class EmployeeController {
         try {
             Employee terminatedEmployee = employeeService.terminateEmployee(id);
             return ResponseEntity.ok(terminatedEmployee);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
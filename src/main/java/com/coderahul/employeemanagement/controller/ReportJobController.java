@@ -0,0 +1,151 @@
+package com.coderahul.employeemanagement.controller;
+
+import com.coderahul.employeemanagement.dto.ReportJobDto;
+import com.coderahul.employeemanagement.dto.ReportJobRequest;
+import com.coderahul.employeemanagement.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "*")
+@Tag(name = "Report Jobs", description = "Background exports and reports")
+public class ReportJobController {
+
+    private static final long EVENTS_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    // Tomcat request attributes for handing a file to the connector's sendfile support
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ReportJobService reportJobService;
+
+    @Autowired
+    public ReportJobController(ReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Submit a report job",
+            description = "Queues an EMPLOYEE_EXPORT or DEPARTMENTS_WITH_EMPLOYEES job writing gzip NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued"),
+            @ApiResponse(responseCode = "400", description = "Missing type or format, or invalid priority"),
+            @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    public ResponseEntity<ReportJobDto> submitJob(@RequestBody ReportJobRequest request) {
+        ReportJobDto job = reportJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping
+    @Operation(summary = "List recent report jobs", description = "The most recent jobs, newest first")
+    public ResponseEntity<List<ReportJobDto>> getRecentJobs() {
+        return ResponseEntity.ok(reportJobService.getRecentJobs());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get report job", description = "Status and progress of a job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<ReportJobDto> getJob(@PathVariable Long id) {
+        return reportJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream report job progress",
+            description = "Server-sent events with the job state, about twice a second while it runs; closes once the job has finished")
+    public SseEmitter streamJobProgress(@PathVariable Long id) {
+        SseEmitter emitter = new SseEmitter(EVENTS_TIMEOUT_MILLIS);
+        Consumer<ReportJobDto> listener = job -> sendProgress(emitter, job);
+        ReportJobDto current = reportJobService.subscribe(id, listener);
+        emitter.onCompletion(() -> reportJobService.unsubscribe(id, listener));
+        emitter.onTimeout(() -> reportJobService.unsubscribe(id, listener));
+        sendProgress(emitter, current);
+        return emitter;
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancel report job", description = "A running job stops at its next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation requested"),
+            @ApiResponse(responseCode = "404", description = "Job not found"),
+            @ApiResponse(responseCode = "409", description = "Job has already finished")
+    })
+    public ResponseEntity<ReportJobDto> cancelJob(@PathVariable Long id) {
+        return ResponseEntity.ok(reportJobService.cancel(id));
+    }
+
+    @GetMapping("/{id}/result")
+    @Operation(summary = "Download report job result",
+            description = "The gzip-compressed NDJSON or CSV file, sent straight from disk to the socket")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Result file"),
+            @ApiResponse(responseCode = "404", description = "Job or result file not found"),
+            @ApiResponse(responseCode = "409", description = "Job has not succeeded")
+    })
+    public void downloadResult(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = reportJobService.getResultFile(id);
+        long size = Files.size(file);
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+        response.setContentLengthLong(size);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file after the handler returns, with FileChannel.transferTo into the socket
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static void sendProgress(SseEmitter emitter, ReportJobDto job) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(job));
+            if (job.status().isFinished()) {
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
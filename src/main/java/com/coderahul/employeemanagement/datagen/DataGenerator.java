@@ -0,0 +1,160 @@
+package com.coderahul.employeemanagement.datagen;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fills an empty database with a {@link SyntheticDataset} at startup. Employees are generated in
+ * chunks on {@code app.data.generator.threads} threads, each chunk inserted with JDBC batches in its
+ * own transaction, with explicit ids; the id sequences are moved past them at the end. The secondary
+ * indexes declared on {@link Employee} are dropped for the load and built again afterwards, which
+ * is much cheaper than maintaining them row by row. Runs before
+ * {@code ApplicationReadyEvent}, so the in-memory stores are built from the generated data. Change
+ * events are not published; the generated rows are the starting state, not changes.
+ */
+@Component
+public class DataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+    private static final String INSERT_DEPARTMENT_SQL =
+            "INSERT INTO departments (id, department_name, description) VALUES (?, ?, ?)";
+    private static final String INSERT_EMPLOYEE_SQL = "INSERT INTO employees " +
+            "(id, first_name, last_name, email, phone_number, hire_date, salary, department_id, employment_status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int departments;
+    private final long employees;
+    private final long seed;
+    private final int threads;
+    private final int chunkSize;
+
+    @Autowired
+    public DataGenerator(JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${app.data.generator.enabled:true}") boolean enabled,
+                         @Value("${app.data.generator.departments:10}") int departments,
+                         @Value("${app.data.generator.employees:1000}") long employees,
+                         @Value("${app.data.generator.seed:42}") long seed,
+                         @Value("${app.data.generator.threads:4}") int threads,
+                         @Value("${app.data.generator.chunk-size:10000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.departments = departments;
+        this.employees = employees;
+        this.seed = seed;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        // The schema is migrated, not recreated, so a persistent database keeps its data across restarts
+        if (!enabled || departments < 1 || !isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        SyntheticDataset dataset = new SyntheticDataset(seed, departments);
+        insertDepartments(dataset);
+        Index[] indexes = Employee.class.getAnnotation(Table.class).indexes();
+        for (Index index : indexes) {
+            jdbcTemplate.execute("DROP INDEX " + index.name());
+        }
+        try {
+            insertEmployees(dataset);
+        } finally {
+            for (Index index : indexes) {
+                jdbcTemplate.execute("CREATE INDEX " + index.name() + " ON employees (" + index.columnList() + ")");
+            }
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + Department.ID_SEQUENCE + " RESTART WITH "
+                + (departments + Department.ID_ALLOCATION_SIZE));
+        jdbcTemplate.execute("ALTER SEQUENCE " + Employee.ID_SEQUENCE + " RESTART WITH "
+                + (employees + Employee.ID_ALLOCATION_SIZE));
+        log.info("Generated {} departments and {} employees (seed {}) in {} ms",
+                departments, employees, seed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isEmpty() {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM departments) + (SELECT COUNT(*) FROM employees)", Long.class);
+        return rows != null && rows == 0;
+    }
+
+    private void insertDepartments(SyntheticDataset dataset) {
+        List<Object[]> rows = new ArrayList<>(departments);
+        for (long id = 1; id <= departments; id++) {
+            rows.add(new Object[]{id, dataset.departmentName(id), dataset.departmentDescription(id)});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_DEPARTMENT_SQL, rows));
+    }
+
+    private void insertEmployees(SyntheticDataset dataset) throws InterruptedException, ExecutionException {
+        if (employees == 0) {
+            return;
+        }
+        long chunks = (employees + chunkSize - 1) / chunkSize;
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "data-generator-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long from = chunk * chunkSize;
+                long to = Math.min(from + chunkSize, employees);
+                results.add(workers.submit(() -> insertEmployees(dataset, from, to)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void insertEmployees(SyntheticDataset dataset, long from, long to) {
+        List<EmployeeDto> rows = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            rows.add(dataset.employee(index));
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SQL, rows, JDBC_BATCH_SIZE, (ps, employee) -> {
+                    ps.setLong(1, employee.id());
+                    ps.setString(2, employee.firstName());
+                    ps.setString(3, employee.lastName());
+                    ps.setString(4, employee.email());
+                    ps.setString(5, employee.phoneNumber());
+                    ps.setObject(6, employee.hireDate());
+                    ps.setBigDecimal(7, employee.salary());
+                    ps.setObject(8, employee.departmentId(), Types.BIGINT);
+                    ps.setString(9, employee.employmentStatus().name());
+                }));
+    }
+}
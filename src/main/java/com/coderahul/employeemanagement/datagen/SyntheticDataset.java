@@ -0,0 +1,114 @@
+package com.coderahul.employeemanagement.datagen;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * A deterministic synthetic company: department {@code d} and employee {@code i} depend only on the
+ * seed, the department count and their own number, so any range of employees can be generated on
+ * any thread in any order. Departments get Zipf-like sizes, each department has its own salary
+ * level with log-normal spread that grows with tenure, and hire dates lean towards recent years.
+ * Ids are 1..departments and 1..employees.
+ */
+public final class SyntheticDataset {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra",
+            "Priya", "Rahul", "Wei", "Mei", "Hiroshi", "Yuki", "Carlos", "Sofia", "Ahmed", "Fatima"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Anand", "Sharma", "Wang", "Chen", "Tanaka", "Suzuki", "Silva", "Rossi", "Khan", "Haddad"};
+    private static final String[] DEPARTMENT_NAMES = {
+            "Engineering", "Sales", "Customer Support", "Operations", "Marketing", "Finance", "Human Resources",
+            "Product", "Information Technology", "Legal", "Research", "Procurement", "Quality Assurance",
+            "Facilities", "Security", "Data Science", "Design", "Logistics", "Compliance", "Communications"};
+
+    private static final LocalDate FIRST_HIRE_DATE = LocalDate.of(2005, 1, 1);
+    private static final int HIRE_DATE_SPAN_DAYS = 7000;
+    private static final double ZIPF_EXPONENT = 0.8;
+    private static final double SALARY_SIGMA = 0.22;
+    private static final double RAISE_PER_YEAR = 0.025;
+
+    private final long seed;
+    private final int departments;
+    private final double[] cumulativeDepartmentWeights;
+    private final double[] medianSalaries;
+
+    public SyntheticDataset(long seed, int departments) {
+        if (departments < 1) {
+            throw new IllegalArgumentException("At least one department is required");
+        }
+        this.seed = seed;
+        this.departments = departments;
+        this.cumulativeDepartmentWeights = new double[departments];
+        this.medianSalaries = new double[departments];
+        SplittableRandom random = new SplittableRandom(seed);
+        double total = 0;
+        for (int d = 0; d < departments; d++) {
+            total += 1 / Math.pow(d + 1, ZIPF_EXPONENT);
+            cumulativeDepartmentWeights[d] = total;
+            medianSalaries[d] = 45_000 + random.nextInt(65_000);
+        }
+        for (int d = 0; d < departments; d++) {
+            cumulativeDepartmentWeights[d] /= total;
+        }
+    }
+
+    public int departments() {
+        return departments;
+    }
+
+    public String departmentName(long id) {
+        String name = DEPARTMENT_NAMES[(int) ((id - 1) % DEPARTMENT_NAMES.length)];
+        long round = (id - 1) / DEPARTMENT_NAMES.length;
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    public String departmentDescription(long id) {
+        return "Synthetic department " + id;
+    }
+
+    /**
+     * The employee with id {@code index + 1}.
+     */
+    public EmployeeDto employee(long index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        int department = department(random.nextDouble());
+        // Density rises linearly towards today, like a company that keeps growing
+        int hireDay = (int) (HIRE_DATE_SPAN_DAYS * Math.sqrt(random.nextDouble()));
+        double yearsOfService = (HIRE_DATE_SPAN_DAYS - hireDay) / 365.0;
+        double salary = medianSalaries[department] * Math.exp(SALARY_SIGMA * random.nextGaussian())
+                * (1 + RAISE_PER_YEAR * yearsOfService);
+        int roll = random.nextInt(100);
+        EmploymentStatus status = roll < 90 ? EmploymentStatus.ACTIVE
+                : roll < 94 ? EmploymentStatus.INACTIVE : EmploymentStatus.TERMINATED;
+        return new EmployeeDto(
+                index + 1,
+                firstName,
+                lastName,
+                firstName.toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT) + "." + index + "@example.com",
+                "+1555" + Long.toString(10_000_000 + index % 10_000_000).substring(1),
+                FIRST_HIRE_DATE.plusDays(hireDay),
+                BigDecimal.valueOf(Math.max(salary, 20_000)).setScale(-2, RoundingMode.HALF_UP).setScale(2),
+                department + 1L,
+                status);
+    }
+
+    private int department(double u) {
+        int position = Arrays.binarySearch(cumulativeDepartmentWeights, u);
+        return Math.min(position >= 0 ? position : -position - 1, departments - 1);
+    }
+}
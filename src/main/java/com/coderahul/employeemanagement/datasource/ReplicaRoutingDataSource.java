@@ -0,0 +1,162 @@
+package com.coderahul.employeemanagement.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The route is
+ * picked when a physical connection is first needed, so this must sit behind a
+ * {@link LazyConnectionDataSourceProxy}: the transaction manager asks for a connection before it
+ * marks the transaction read-only, the proxy only fetches one at the first statement.
+ * <p>
+ * Read-your-writes is per client: when a read-write transaction commits on a request thread, the
+ * rest of that request and the client's requests for the next {@code readYourWritesWindow} (which
+ * should exceed the replica's lag) read from the primary. The pin travels in the
+ * {@value #PIN_COOKIE} cookie, holding the wall-clock millis it lasts until, so it holds across
+ * instances; a client that drops cookies reads from the replica on its next request. Other
+ * clients keep reading from the replica. The application's own readers that must not see a
+ * lagging copy (the change feed, cache loads) run in {@link #onPrimary}. Connections taken
+ * outside a transaction (Flyway, startup checks, plain JDBC) always go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PIN_COOKIE = "primary-reads-until";
+
+    private static final String PIN_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".primaryReadsUntil";
+    private static final ThreadLocal<Boolean> PRIMARY_SCOPE = new ThreadLocal<>();
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final long readYourWritesMillis;
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter writes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow,
+                                    MeterRegistry meterRegistry) {
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.replicaReads = connections(meterRegistry, "replica", "read");
+        this.pinnedReads = connections(meterRegistry, "primary", "read");
+        this.writes = connections(meterRegistry, "primary", "write");
+    }
+
+    /**
+     * Runs {@code work} with its read-only transactions on the primary. Without a replica
+     * configured it simply runs {@code work}.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (Boolean.TRUE.equals(PRIMARY_SCOPE.get())) {
+            return work.get();
+        }
+        PRIMARY_SCOPE.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_SCOPE.remove();
+        }
+    }
+
+    /**
+     * Whether read-only transactions started now on this thread would go to the primary: inside
+     * {@link #onPrimary}, or on the request of a client that has recently written.
+     */
+    public static boolean readsFromPrimary() {
+        if (Boolean.TRUE.equals(PRIMARY_SCOPE.get())) {
+            return true;
+        }
+        HttpServletRequest request = currentRequest();
+        return request != null && System.currentTimeMillis() < pinnedUntil(request);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!readsFromPrimary()) {
+                replicaReads.increment();
+                return Route.REPLICA;
+            }
+            pinnedReads.increment();
+            return Route.PRIMARY;
+        }
+        writes.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive() && currentRequest() != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pinClient();
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+
+    private void pinClient() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long until = System.currentTimeMillis() + readYourWritesMillis;
+        attributes.getRequest().setAttribute(PIN_ATTRIBUTE, until);
+        HttpServletResponse response = attributes.getResponse();
+        // A streamed response is already under way; the rest of this request is still pinned
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(PIN_COOKIE, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (readYourWritesMillis + 999) / 1000));
+            response.addCookie(cookie);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        if (request.getAttribute(PIN_ATTRIBUTE) instanceof Long until) {
+            return until;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (PIN_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static Counter connections(MeterRegistry meterRegistry, String target, String kind) {
+        return Counter.builder("app.datasource.routed.connections")
+                .description("Transactional connections by the pool they were routed to")
+                .tag("target", target)
+                .tag("transaction", kind)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.coderahul.employeemanagement.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for replication when the replica is a second local H2 database that nothing replicates
+ * into, as in the {@code replica} profile. At startup it applies the primary's Flyway migrations
+ * to the replica. Every {@code app.datasource.replica.snapshot-interval} it then replaces all of
+ * the replica's rows with the primary's in one transaction, so replica readers see the primary as
+ * it was up to one interval ago: a replica with a bounded lag, which is what the read-your-writes
+ * pin must cover. Each pass copies every table in full, so it suits small local data sets only.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.snapshot-interval")
+public class SnapshotReplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotReplicator.class);
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final String historyTable;
+
+    @Autowired
+    public SnapshotReplicator(@Qualifier("primaryDataSource") DataSource primary,
+                              Flyway flyway,
+                              @Value("${app.datasource.replica.url}") String url,
+                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        this.primary = primary;
+        // The replica pool hands out read-only connections
+        this.replica = new DriverManagerDataSource(url, username, password);
+        this.historyTable = flyway.getConfiguration().getTable();
+        Flyway.configure().configuration(flyway.getConfiguration()).dataSource(replica).load().migrate();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.snapshot-interval}")
+    public synchronized void copy() {
+        long start = System.currentTimeMillis();
+        long rows = 0;
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            target.setAutoCommit(false);
+            try (Statement statement = target.createStatement()) {
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                try {
+                    for (String table : tables(target.getMetaData())) {
+                        statement.executeUpdate("DELETE FROM " + table);
+                        rows += copyRows(source, target, table);
+                    }
+                    target.commit();
+                } catch (SQLException e) {
+                    target.rollback();
+                    throw e;
+                } finally {
+                    statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Replica snapshot failed; the replica keeps its previous copy", e);
+            return;
+        }
+        log.debug("Copied {} rows to the replica in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    private List<String> tables(DatabaseMetaData metaData) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet result = metaData.getTables(null, "PUBLIC", "%", new String[] {"TABLE"})) {
+            while (result.next()) {
+                String table = result.getString("TABLE_NAME");
+                if (!table.equalsIgnoreCase(historyTable)) {
+                    tables.add(table);
+                }
+            }
+        }
+        return tables;
+    }
+
+    private static long copyRows(Connection source, Connection target, String table) throws SQLException {
+        long copied = 0;
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + table)) {
+            ResultSetMetaData columns = rows.getMetaData();
+            List<String> names = new ArrayList<>();
+            for (int i = 1; i <= columns.getColumnCount(); i++) {
+                names.add(columns.getColumnName(i));
+            }
+            String insert = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                    + String.join(", ", names.stream().map(name -> "?").toList()) + ")";
+            try (PreparedStatement statement = target.prepareStatement(insert)) {
+                while (rows.next()) {
+                    for (int i = 1; i <= names.size(); i++) {
+                        statement.setObject(i, rows.getObject(i));
+                    }
+                    statement.addBatch();
+                    if (++copied % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        }
+        return copied;
+    }
+}
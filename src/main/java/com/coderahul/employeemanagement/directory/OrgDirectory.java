@@ -0,0 +1,487 @@
+package com.coderahul.employeemanagement.directory;
+
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized view behind {@code GET /api/departments/with-employees}: one immutable segment per
+ * department holding the department's JSON head and, sorted by id, each employee with its own JSON
+ * encoding. A JSON response joins these pieces; readers take the current {@link View} without
+ * locking and never touch the database.
+ * <p>
+ * A committed change only marks the employee or department dirty. One refresher thread reads the
+ * dirty rows back from the database and re-encodes just those employees, splicing them into copies
+ * of the segments they left and joined. The rows it reads are the committed state, and passes run
+ * one after another, so changes whose after-commit listeners run out of order still end up in the
+ * state of the last commit. A reader waits up to {@code app.directory.refresh-wait} for the
+ * changes marked before it to be applied, so a client sees its own writes. A failed pass keeps its
+ * rows dirty and is retried with growing delays; until one succeeds, readers get the last view
+ * without waiting.
+ */
+@Component
+public class OrgDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(OrgDirectory.class);
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+    private static final byte[] SEGMENT_TAIL = {']', '}'};
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final long FIRST_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private final ObjectWriter departmentWriter;
+    private final ObjectWriter employeeWriter;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshWaitNanos;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Condition published = writeLock.newCondition();
+    // Guarded by writeLock
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final Map<Long, Long> departmentOf = new HashMap<>();
+    private boolean loaded;
+    private long generation;
+    private int failedRefreshes;
+    private volatile View view = new View(List.of(), 0, Instant.now().truncatedTo(ChronoUnit.SECONDS), etag(0));
+
+    private final Set<Long> dirtyEmployees = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyDepartments = ConcurrentHashMap.newKeySet();
+    private final AtomicLong marked = new AtomicLong();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    // Set while the last refresh failed: readers then take the current view instead of waiting
+    private volatile boolean refreshFailing;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "org-directory-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public OrgDirectory(ObjectMapper objectMapper,
+                        EmployeeRepository employeeRepository,
+                        DepartmentRepository departmentRepository,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.directory.refresh-wait:2s}") Duration refreshWait) {
+        this.departmentWriter = objectMapper.writerFor(DepartmentWithEmployeesDto.class);
+        this.employeeWriter = objectMapper.writerFor(EmployeeDto.class);
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.refreshWaitNanos = refreshWait.toNanos();
+    }
+
+    /**
+     * The current directory, once it includes every change committed before this call, or the
+     * latest one after {@code app.directory.refresh-wait}, or at once while refreshes are failing.
+     */
+    public View view() {
+        long wanted = marked.get();
+        View current = view;
+        if (current.through >= wanted || refreshFailing) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            long nanos = refreshWaitNanos;
+            while (view.through < wanted && !refreshFailing && nanos > 0) {
+                nanos = published.awaitNanos(nanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writeLock.unlock();
+        }
+        return view;
+    }
+
+    /**
+     * Replaces every segment. {@code loader} must pass every department, with all of its
+     * employees, to the supplied consumer. Changes marked while it loads are applied afterwards.
+     */
+    public void rebuild(Consumer<Consumer<DepartmentWithEmployeesDto>> loader) {
+        writeLock.lock();
+        try {
+            long through = marked.get();
+            segments.clear();
+            departmentOf.clear();
+            loader.accept(department -> {
+                List<Entry> entries = new ArrayList<>(department.employees().size());
+                for (EmployeeDto employee : department.employees()) {
+                    entries.add(entry(employee));
+                    departmentOf.put(employee.id(), department.id());
+                }
+                entries.sort((a, b) -> Long.compare(a.id(), b.id()));
+                DepartmentDto dto = new DepartmentDto(department.id(), department.departmentName(), department.description());
+                segments.put(department.id(), new Segment(dto, head(dto), entries.toArray(Entry[]::new)));
+            });
+            loaded = true;
+            publish(through);
+        } finally {
+            writeLock.unlock();
+        }
+        scheduleRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        dirtyEmployees.add(event.employeeId());
+        marked.incrementAndGet();
+        scheduleRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        dirtyDepartments.add(event.departmentId());
+        marked.incrementAndGet();
+        scheduleRefresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    // Runs on the refresher thread. Changes marked while it runs schedule another pass; a failed pass
+    // schedules its own retry, backing off up to MAX_RETRY_DELAY_MILLIS while it keeps failing.
+    private void refresh() {
+        refreshPending.set(false);
+        writeLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            // Ids are marked dirty before the count moves, so everything counted here is drained below
+            long through = marked.get();
+            Set<Long> departmentIds = drain(dirtyDepartments);
+            Set<Long> employeeIds = drain(dirtyEmployees);
+            try {
+                Rows rows = transactionTemplate.execute(status -> load(departmentIds, employeeIds));
+                applyDepartments(departmentIds, rows.departments());
+                applyEmployees(employeeIds, rows.employees(), rows.departments());
+            } catch (RuntimeException e) {
+                dirtyDepartments.addAll(departmentIds);
+                dirtyEmployees.addAll(employeeIds);
+                long delay = Math.min(MAX_RETRY_DELAY_MILLIS, FIRST_RETRY_DELAY_MILLIS << Math.min(failedRefreshes++, 16));
+                refreshFailing = true;
+                published.signalAll();
+                log.warn("Org directory refresh failed; retrying {} employees and {} departments in {} ms",
+                        employeeIds.size(), departmentIds.size(), delay, e);
+                if (refreshPending.compareAndSet(false, true)) {
+                    refresher.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+            publish(through);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Rows load(Set<Long> departmentIds, Set<Long> employeeIds) {
+        Map<Long, EmployeeDto> employees = new HashMap<>();
+        for (List<Long> chunk : chunks(employeeIds)) {
+            employeeRepository.findDtosByIdIn(chunk).forEach(employee -> employees.put(employee.id(), employee));
+        }
+        // Employees may join a department whose own change has not been applied yet
+        Set<Long> wanted = new HashSet<>(departmentIds);
+        employees.values().stream()
+                .map(EmployeeDto::departmentId)
+                .filter(id -> id != null && !segments.containsKey(id))
+                .forEach(wanted::add);
+        Map<Long, DepartmentDto> departments = new HashMap<>();
+        for (List<Long> chunk : chunks(wanted)) {
+            departmentRepository.findDtosByIdIn(chunk).forEach(department -> departments.put(department.id(), department));
+        }
+        return new Rows(departments, employees);
+    }
+
+    private void applyDepartments(Set<Long> departmentIds, Map<Long, DepartmentDto> departments) {
+        for (Long id : departmentIds) {
+            DepartmentDto department = departments.get(id);
+            Segment current = segments.get(id);
+            if (department == null) {
+                if (current != null) {
+                    segments.remove(id);
+                    for (Entry entry : current.entries) {
+                        departmentOf.remove(entry.id());
+                    }
+                }
+            } else {
+                segments.put(id, new Segment(department, head(department), current != null ? current.entries : new Entry[0]));
+            }
+        }
+    }
+
+    private void applyEmployees(Set<Long> employeeIds, Map<Long, EmployeeDto> employees, Map<Long, DepartmentDto> departments) {
+        // Per department, the employees to put (or, for null, to remove), by id
+        Map<Long, NavigableMap<Long, Entry>> changes = new HashMap<>();
+        for (Long id : employeeIds) {
+            EmployeeDto employee = employees.get(id);
+            Long left = departmentOf.remove(id);
+            Long joined = employee != null ? employee.departmentId() : null;
+            if (joined != null && !segments.containsKey(joined)) {
+                DepartmentDto department = departments.get(joined);
+                if (department == null) {
+                    joined = null;
+                } else {
+                    segments.put(joined, new Segment(department, head(department), new Entry[0]));
+                }
+            }
+            if (left != null && !left.equals(joined)) {
+                changes.computeIfAbsent(left, department -> new TreeMap<>()).put(id, null);
+            }
+            if (joined != null) {
+                changes.computeIfAbsent(joined, department -> new TreeMap<>()).put(id, entry(employee));
+                departmentOf.put(id, joined);
+            }
+        }
+        changes.forEach((departmentId, departmentChanges) -> {
+            Segment current = segments.get(departmentId);
+            if (current != null) {
+                segments.put(departmentId, current.with(departmentChanges));
+            }
+        });
+    }
+
+    private void publish(long through) {
+        failedRefreshes = 0;
+        refreshFailing = false;
+        generation++;
+        view = new View(List.copyOf(segments.values()), through, Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                etag(generation));
+        published.signalAll();
+    }
+
+    private String etag(long generation) {
+        return "W/\"" + epoch + "-" + generation + "\"";
+    }
+
+    private Entry entry(EmployeeDto employee) {
+        try {
+            return new Entry(employee, employeeWriter.writeValueAsBytes(employee));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize employee " + employee.id(), e);
+        }
+    }
+
+    // The department written with no employees, up to and including the opening bracket of its list
+    private byte[] head(DepartmentDto department) {
+        byte[] json;
+        try {
+            json = departmentWriter.writeValueAsBytes(new DepartmentWithEmployeesDto(department.id(),
+                    department.departmentName(), department.description(), List.of()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize department " + department.id(), e);
+        }
+        int end = json.length - SEGMENT_TAIL.length;
+        if (end < 1 || json[end - 1] != '[' || json[end] != SEGMENT_TAIL[0] || json[end + 1] != SEGMENT_TAIL[1]) {
+            throw new IllegalStateException("Department " + department.id() + " does not end with its employee list");
+        }
+        return Arrays.copyOf(json, end);
+    }
+
+    private static Set<Long> drain(Set<Long> dirty) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : dirty) {
+            if (dirty.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static List<List<Long>> chunks(Set<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += LOAD_CHUNK_SIZE) {
+            chunks.add(all.subList(from, Math.min(from + LOAD_CHUNK_SIZE, all.size())));
+        }
+        return chunks;
+    }
+
+    private record Rows(Map<Long, DepartmentDto> departments, Map<Long, EmployeeDto> employees) {
+    }
+
+    private record Entry(EmployeeDto employee, byte[] json) {
+
+        long id() {
+            return employee.id();
+        }
+    }
+
+    /**
+     * One department: its head and its employees sorted by id. Never modified once published; a
+     * change builds a new segment that shares the unchanged entries.
+     */
+    private static final class Segment {
+
+        private final DepartmentDto department;
+        private final byte[] head;
+        private final Entry[] entries;
+        private final long length;
+
+        Segment(DepartmentDto department, byte[] head, Entry[] entries) {
+            this.department = department;
+            this.head = head;
+            this.entries = entries;
+            long bytes = head.length + SEGMENT_TAIL.length + Math.max(entries.length - 1, 0);
+            for (Entry entry : entries) {
+                bytes += entry.json().length;
+            }
+            this.length = bytes;
+        }
+
+        // Merges changes (null removes) into a copy of the sorted entries
+        Segment with(NavigableMap<Long, Entry> changes) {
+            List<Entry> merged = new ArrayList<>(entries.length + changes.size());
+            int i = 0;
+            for (Map.Entry<Long, Entry> change : changes.entrySet()) {
+                long id = change.getKey();
+                while (i < entries.length && entries[i].id() < id) {
+                    merged.add(entries[i++]);
+                }
+                if (i < entries.length && entries[i].id() == id) {
+                    i++;
+                }
+                if (change.getValue() != null) {
+                    merged.add(change.getValue());
+                }
+            }
+            while (i < entries.length) {
+                merged.add(entries[i++]);
+            }
+            return new Segment(department, head, merged.toArray(Entry[]::new));
+        }
+
+        DepartmentWithEmployeesDto toDto() {
+            List<EmployeeDto> employees = new ArrayList<>(entries.length);
+            for (Entry entry : entries) {
+                employees.add(entry.employee());
+            }
+            return new DepartmentWithEmployeesDto(department.id(), department.departmentName(),
+                    department.description(), employees);
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(head);
+            for (int i = 0; i < entries.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(entries[i].json());
+            }
+            out.write(SEGMENT_TAIL);
+        }
+    }
+
+    /**
+     * The directory at one point in time, ordered by department id. JSON responses copy the
+     * segments' bytes ({@link OrgDirectoryHttpMessageConverter}); other formats serialize
+     * {@link #departments()}. The ETag moves with every published view.
+     */
+    public static final class View {
+
+        private final List<Segment> segments;
+        // Changes marked before the view was built
+        private final long through;
+        private final Instant lastModified;
+        private final String etag;
+        private final long length;
+
+        private View(List<Segment> segments, long through, Instant lastModified, String etag) {
+            this.segments = segments;
+            this.through = through;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            long bytes = segments.isEmpty() ? EMPTY_ARRAY.length : segments.size() + 1;
+            for (Segment segment : segments) {
+                bytes += segment.length;
+            }
+            this.length = bytes;
+        }
+
+        @JsonValue
+        public List<DepartmentWithEmployeesDto> departments() {
+            return segments.stream().map(Segment::toDto).collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        public int departmentCount() {
+            return segments.size();
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public long lastModifiedMillis() {
+            return lastModified.toEpochMilli();
+        }
+
+        /** Size of the JSON array {@link #writeTo} writes. */
+        public long length() {
+            return length;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            if (segments.isEmpty()) {
+                out.write(EMPTY_ARRAY);
+                return;
+            }
+            for (int i = 0; i < segments.size(); i++) {
+                out.write(i == 0 ? '[' : ',');
+                segments.get(i).writeTo(out);
+            }
+            out.write(']');
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.coderahul.employeemanagement.directory;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes an {@link OrgDirectory.View} as JSON by copying its pre-encoded segments, with an exact
+ * Content-Length. Registered ahead of the Jackson converters; CBOR and Smile fall through to them.
+ */
+public class OrgDirectoryHttpMessageConverter extends AbstractHttpMessageConverter<OrgDirectory.View> {
+
+    public OrgDirectoryHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OrgDirectory.View.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected OrgDirectory.View readInternal(Class<? extends OrgDirectory.View> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("The org directory is read-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(OrgDirectory.View view, MediaType contentType) {
+        return view.length();
+    }
+
+    @Override
+    protected void writeInternal(OrgDirectory.View view, HttpOutputMessage outputMessage) throws IOException {
+        view.writeTo(outputMessage.getBody());
+    }
+}
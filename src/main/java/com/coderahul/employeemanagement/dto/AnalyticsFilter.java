@@ -0,0 +1,16 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Row filter for analytics queries. Null or empty fields match every row.
+ */
+public record AnalyticsFilter(
+        Long departmentId,
+        List<EmploymentStatus> statuses,
+        LocalDate hiredFrom,
+        LocalDate hiredTo) {
+}
\ No newline at end of file
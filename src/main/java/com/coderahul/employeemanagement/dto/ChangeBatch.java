@@ -0,0 +1,14 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. Pass {@code nextSince} as {@code since} to continue; {@code hasMore}
+ * means the next page is already available.
+ */
+public record ChangeBatch(List<ChangeEventDto> changes, long nextSince, boolean hasMore) {
+
+    public static ChangeBatch empty(long since) {
+        return new ChangeBatch(List.of(), since, false);
+    }
+}
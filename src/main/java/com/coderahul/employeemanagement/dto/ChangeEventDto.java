@@ -0,0 +1,24 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.ChangeEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed. {@code data} is the entity after the change, in the same shape as
+ * the REST payloads ({@link EmployeeDto}, {@link DepartmentDto}), and null for deletes.
+ */
+public record ChangeEventDto(
+        long seq,
+        ChangeEvent.EntityType entityType,
+        Long entityId,
+        ChangeEvent.Operation operation,
+        LocalDateTime occurredAt,
+        @JsonRawValue String data) {
+
+    public static ChangeEventDto from(ChangeEvent event) {
+        return new ChangeEventDto(event.getSeq(), event.getEntityType(), event.getEntityId(), event.getOperation(),
+                event.getOccurredAt(), event.getData());
+    }
+}
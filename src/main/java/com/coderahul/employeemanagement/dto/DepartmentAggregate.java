@@ -0,0 +1,12 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+
+public record DepartmentAggregate(
+        Long departmentId,
+        long headcount,
+        BigDecimal totalSalary,
+        BigDecimal averageSalary,
+        BigDecimal minSalary,
+        BigDecimal maxSalary) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+public record DepartmentBatchGetRequest(List<Long> ids) {
+}
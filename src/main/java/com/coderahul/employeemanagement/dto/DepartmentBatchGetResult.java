@@ -0,0 +1,9 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * The departments found, in request order and without duplicates, and the ids that matched none.
+ */
+public record DepartmentBatchGetResult(List<DepartmentDto> departments, List<Long> missingIds) {
+}
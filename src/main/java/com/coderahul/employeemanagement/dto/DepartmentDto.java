@@ -0,0 +1,10 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Department;
+
+public record DepartmentDto(Long id, String departmentName, String description) {
+
+    public static DepartmentDto from(Department department) {
+        return new DepartmentDto(department.getId(), department.getDepartmentName(), department.getDescription());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of the department LEFT JOIN employee projection; employee columns are null for
+ * departments without employees.
+ */
+public record DepartmentEmployeeRow(
+        Long departmentId,
+        String departmentName,
+        String description,
+        Long employeeId,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        LocalDate hireDate,
+        BigDecimal salary,
+        EmploymentStatus employmentStatus) {
+
+    public EmployeeDto employee() {
+        return new EmployeeDto(employeeId, firstName, lastName, email, phoneNumber, hireDate, salary,
+                departmentId, employmentStatus);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+
+public record DepartmentStats(
+        Long departmentId,
+        String departmentName,
+        long employeeCount,
+        BigDecimal totalSalary,
+        BigDecimal averageSalary,
+        BigDecimal minSalary,
+        BigDecimal maxSalary) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+public record DepartmentWithEmployeesDto(Long id, String departmentName, String description, List<EmployeeDto> employees) {
+}
\ No newline at end of file
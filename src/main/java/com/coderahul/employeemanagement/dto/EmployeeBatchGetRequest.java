@@ -0,0 +1,9 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * Employees to look up by id, by email, or both.
+ */
+public record EmployeeBatchGetRequest(List<Long> ids, List<String> emails) {
+}
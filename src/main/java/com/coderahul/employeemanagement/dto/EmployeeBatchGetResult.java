@@ -0,0 +1,10 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+/**
+ * The employees found, ids first and then emails, each in request order and without duplicates,
+ * and the keys that matched no employee.
+ */
+public record EmployeeBatchGetResult(List<EmployeeDto> employees, List<Long> missingIds, List<String> missingEmails) {
+}
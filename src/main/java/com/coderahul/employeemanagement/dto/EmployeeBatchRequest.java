@@ -0,0 +1,20 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee;
+
+import java.util.List;
+
+/**
+ * Employee changes applied in order, each reported separately. {@code employee} is the full
+ * employee for CREATE and UPDATE; {@code id} names the employee for UPDATE, TERMINATE and DELETE.
+ * A {@code version} applies the operation only if the employee is still at that version.
+ */
+public record EmployeeBatchRequest(List<Operation> operations) {
+
+    public enum OperationType {
+        CREATE, UPDATE, TERMINATE, DELETE
+    }
+
+    public record Operation(OperationType op, Long id, Long version, Employee employee) {
+    }
+}
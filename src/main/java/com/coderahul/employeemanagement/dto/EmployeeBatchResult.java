@@ -0,0 +1,17 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.dto.EmployeeBatchRequest.OperationType;
+
+import java.util.List;
+
+/**
+ * One result per operation, in request order. {@code status} is the HTTP status the single-item
+ * endpoint would have answered: 201, 200 or 204 on success, 400, 404 or 409 for a rejected
+ * operation, and 409 or 500 for operations whose chunk could not be committed. {@code version} is
+ * the employee's version after the operation.
+ */
+public record EmployeeBatchResult(int total, int succeeded, int failed, List<OperationResult> results) {
+
+    public record OperationResult(int index, OperationType op, int status, Long id, Long version, String error) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EmployeeDto(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        LocalDate hireDate,
+        BigDecimal salary,
+        Long departmentId,
+        EmploymentStatus employmentStatus) {
+
+    public static EmployeeDto from(Employee employee) {
+        return new EmployeeDto(
+                employee.getId(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail(),
+                employee.getPhoneNumber(),
+                employee.getHireDate(),
+                employee.getSalary(),
+                employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                employee.getEmploymentStatus());
+    }
+}
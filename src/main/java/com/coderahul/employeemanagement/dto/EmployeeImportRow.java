@@ -0,0 +1,32 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EmployeeImportRow(
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber,
+        LocalDate hireDate,
+        BigDecimal salary,
+        Long departmentId,
+        EmploymentStatus employmentStatus) {
+
+    public Employee toEmployee() {
+        Employee employee = new Employee(firstName, lastName, email, phoneNumber, hireDate, salary);
+        if (employmentStatus != null) {
+            employee.setEmploymentStatus(employmentStatus);
+        }
+        if (departmentId != null) {
+            Department department = new Department();
+            department.setId(departmentId);
+            employee.setDepartment(department);
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,44 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a query page: its sort key and id. Encoded into an opaque cursor
+ * that also records the sort order, so a cursor cannot be replayed against a different one.
+ */
+public record EmployeeKeyset(Object key, Long id) {
+
+    public static EmployeeKeyset after(EmployeeDto employee, EmployeeSort sort) {
+        return new EmployeeKeyset(sort.keyOf(employee), employee.id());
+    }
+
+    public String encode(EmployeeQuery query) {
+        String raw = query.sort().property() + "," + direction(query) + "," + key + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeKeyset decode(String cursor, EmployeeQuery query) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(query.sort().property()) || !parts[1].equals(direction(query))) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + parts[0] + "," + parts[1] + "'");
+        }
+        try {
+            return new EmployeeKeyset(query.sort().parseKey(parts[2]), Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String direction(EmployeeQuery query) {
+        return query.descending() ? "desc" : "asc";
+    }
+}
\ No newline at end of file
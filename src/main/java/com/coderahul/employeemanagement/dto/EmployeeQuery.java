@@ -0,0 +1,30 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters and ordering for the employee query endpoint. Null or empty filters are left out of the
+ * generated query; all present filters must match.
+ */
+public record EmployeeQuery(
+        List<Long> departmentIds,
+        List<EmploymentStatus> statuses,
+        LocalDate hiredFrom,
+        LocalDate hiredTo,
+        BigDecimal minSalary,
+        BigDecimal maxSalary,
+        EmployeeSort sort,
+        boolean descending) {
+
+    public boolean hasDepartmentIds() {
+        return departmentIds != null && !departmentIds.isEmpty();
+    }
+
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty();
+    }
+}
\ No newline at end of file
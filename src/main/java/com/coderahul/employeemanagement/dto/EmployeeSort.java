@@ -0,0 +1,50 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the employee query endpoint. Each one is backed by an index that ends in
+ * {@code id}, so a keyset page is a single ordered range scan.
+ */
+public enum EmployeeSort {
+    ID("id"),
+    HIRE_DATE("hireDate"),
+    SALARY("salary");
+
+    private final String property;
+
+    EmployeeSort(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public Object keyOf(EmployeeDto employee) {
+        return switch (this) {
+            case ID -> employee.id();
+            case HIRE_DATE -> employee.hireDate();
+            case SALARY -> employee.salary();
+        };
+    }
+
+    public Object parseKey(String value) {
+        return switch (this) {
+            case ID -> Long.valueOf(value);
+            case HIRE_DATE -> LocalDate.parse(value);
+            case SALARY -> new BigDecimal(value);
+        };
+    }
+
+    public static EmployeeSort fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Cannot sort by '" + property + "', sortable fields are "
+                        + Arrays.stream(values()).map(EmployeeSort::property).collect(Collectors.joining(", "))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+public record ImportResult(long totalRows, long imported, long failed, boolean errorsTruncated, List<RowError> errors) {
+
+    public record RowError(long line, String email, String message) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.ReportJob;
+
+import java.time.LocalDateTime;
+
+public record ReportJobDto(
+        Long id,
+        ReportJob.Type type,
+        ReportJob.Format format,
+        int priority,
+        ReportJob.Status status,
+        long rowsWritten,
+        Long resultBytes,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt) {
+
+    public static ReportJobDto from(ReportJob job) {
+        return from(job, job.getStatus(), job.getRowsWritten());
+    }
+
+    public static ReportJobDto from(ReportJob job, ReportJob.Status status, long rowsWritten) {
+        return new ReportJobDto(job.getId(), job.getType(), job.getFormat(), job.getPriority(), status, rowsWritten,
+                job.getResultBytes(), job.getError(), job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+}
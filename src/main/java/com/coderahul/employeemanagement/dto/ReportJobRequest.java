@@ -0,0 +1,28 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.entity.ReportJob;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What a report job produces. The employee filters apply to both job types and have the same
+ * meaning as on the employee query endpoint. Priority runs from 0 to 9, higher first, default 5.
+ */
+public record ReportJobRequest(
+        ReportJob.Type type,
+        ReportJob.Format format,
+        Integer priority,
+        List<Long> departmentIds,
+        List<EmploymentStatus> statuses,
+        LocalDate hiredFrom,
+        LocalDate hiredTo,
+        BigDecimal minSalary,
+        BigDecimal maxSalary) {
+
+    public EmployeeQuery employeeQuery(List<Long> departmentIds) {
+        return new EmployeeQuery(departmentIds, statuses, hiredFrom, hiredTo, minSalary, maxSalary, EmployeeSort.ID, false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Raise for every salaried employee matching all of the given selectors. Exactly one of
+ * {@code percentage} (e.g. 3.5 for +3.5%) and {@code amount} must be set.
+ */
+public record SalaryAdjustmentRequest(
+        List<Long> departmentIds,
+        List<EmploymentStatus> statuses,
+        List<Long> employeeIds,
+        BigDecimal percentage,
+        BigDecimal amount,
+        boolean dryRun) {
+
+    public boolean hasDepartmentIds() {
+        return departmentIds != null && !departmentIds.isEmpty();
+    }
+
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty();
+    }
+
+    public boolean hasEmployeeIds() {
+        return employeeIds != null && !employeeIds.isEmpty();
+    }
+}
\ No newline at end of file
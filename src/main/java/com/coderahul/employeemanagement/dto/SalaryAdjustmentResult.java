@@ -0,0 +1,25 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outcome of a bulk salary adjustment. Matched employees whose salary would not go up, or would
+ * overflow the salary column, are counted as skipped. {@code sample} holds the first changes.
+ */
+public record SalaryAdjustmentResult(
+        boolean dryRun,
+        long matched,
+        long adjusted,
+        long skipped,
+        BigDecimal payrollIncrease,
+        List<ChunkReport> chunks,
+        List<Change> sample) {
+
+    public record ChunkReport(int chunk, Long firstEmployeeId, Long lastEmployeeId, int matched, int adjusted,
+                              int skipped, BigDecimal payrollIncrease, long elapsedMillis) {
+    }
+
+    public record Change(Long employeeId, BigDecimal oldSalary, BigDecimal newSalary) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salary distribution from the streaming sketches. {@code average} is exact; percentiles, min, max
+ * and histogram edges are within {@code relativeAccuracy} of the true values.
+ */
+public record SalaryDistribution(
+        Long departmentId,
+        long count,
+        BigDecimal average,
+        BigDecimal min,
+        BigDecimal max,
+        Map<String, BigDecimal> percentiles,
+        List<SalaryHistogram.Bin> histogram,
+        double relativeAccuracy) {
+}
\ No newline at end of file
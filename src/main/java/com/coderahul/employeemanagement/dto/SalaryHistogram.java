@@ -0,0 +1,14 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Equal-width salary buckets between the lowest and highest matching salary. {@code from} is
+ * inclusive and {@code to} exclusive, except for the last bin, which includes the highest salary.
+ */
+public record SalaryHistogram(long count, List<Bin> bins) {
+
+    public record Bin(BigDecimal from, BigDecimal to, long count) {
+    }
+}
\ No newline at end of file
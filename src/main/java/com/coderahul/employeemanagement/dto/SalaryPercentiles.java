@@ -0,0 +1,10 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Nearest-rank salary percentiles over {@code count} salaries, keyed {@code p50}, {@code p99.9}, ...
+ */
+public record SalaryPercentiles(long count, Map<String, BigDecimal> percentiles) {
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.coderahul.employeemanagement.dto;
+
+import java.util.List;
+
+public record StatsConsistencyReport(boolean consistent, int departmentsChecked, List<String> mismatches) {
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.coderahul.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row. Rows are inserted by {@code ChangeOutboxWriter} with JDBC; the entity is only
+ * used to read the feed and prune it.
+ */
+@Entity
+@Table(name = "change_events", indexes = {
+        @Index(name = "idx_change_events_occurred_at", columnList = "occurred_at")
+})
+@Data
+@NoArgsConstructor
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Operation operation;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(length = 2000)
+    private String data;
+
+    public enum EntityType {
+        EMPLOYEE, DEPARTMENT
+    }
+
+    public enum Operation {
+        CREATED, UPDATED, DELETED
+    }
+}
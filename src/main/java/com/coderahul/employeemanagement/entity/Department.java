@@ -13,8 +13,12 @@ import java.util.List;
 @NoArgsConstructor
 public class Department {
 
+    public static final String ID_SEQUENCE = "departments_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Department name is required")
@@ -23,13 +27,17 @@ public class Department {
     private String departmentName;
 
     @Size(max = 500, message = "Description cannot exceed 500 characters")
-    @Column(name = "description")
+    @Column(name = "description", length = 500)
     private String description;
 
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @com.fasterxml.jackson.annotation.JsonManagedReference
     private List<Employee> employees = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public Department(String departmentName, String description) {
         this.departmentName = departmentName;
         this.description = description;
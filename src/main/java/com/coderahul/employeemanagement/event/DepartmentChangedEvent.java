@@ -0,0 +1,26 @@
+package com.coderahul.employeemanagement.event;
+
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+
+/**
+ * Published by the service layer for every department mutation. {@code before} is null for
+ * creates and {@code after} is null for deletes.
+ */
+public record DepartmentChangedEvent(DepartmentDto before, DepartmentDto after) {
+
+    public static DepartmentChangedEvent created(DepartmentDto after) {
+        return new DepartmentChangedEvent(null, after);
+    }
+
+    public static DepartmentChangedEvent updated(DepartmentDto before, DepartmentDto after) {
+        return new DepartmentChangedEvent(before, after);
+    }
+
+    public static DepartmentChangedEvent deleted(DepartmentDto before) {
+        return new DepartmentChangedEvent(before, null);
+    }
+
+    public Long departmentId() {
+        return after != null ? after.id() : before.id();
+    }
+}
\ No newline at end of file
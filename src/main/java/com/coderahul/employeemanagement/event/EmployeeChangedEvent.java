@@ -0,0 +1,26 @@
+package com.coderahul.employeemanagement.event;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+
+/**
+ * Published by the service layer for every employee mutation. {@code before} is null for
+ * creates and {@code after} is null for deletes.
+ */
+public record EmployeeChangedEvent(EmployeeDto before, EmployeeDto after) {
+
+    public static EmployeeChangedEvent created(EmployeeDto after) {
+        return new EmployeeChangedEvent(null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeDto before, EmployeeDto after) {
+        return new EmployeeChangedEvent(before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeDto before) {
+        return new EmployeeChangedEvent(before, null);
+    }
+
+    public Long employeeId() {
+        return after != null ? after.id() : before.id();
+    }
+}
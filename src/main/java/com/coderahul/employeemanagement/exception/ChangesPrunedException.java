@@ -0,0 +1,8 @@
+package com.coderahul.employeemanagement.exception;
+
+public class ChangesPrunedException extends RuntimeException {
+
+    public ChangesPrunedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.coderahul.employeemanagement.exception;
+
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.coderahul.employeemanagement.exception;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * The version a client sent no longer matches the row. Answered like any other optimistic-lock
+ * failure, but never retried: the client's version stays stale however often the call runs.
+ */
+public class StaleVersionException extends ObjectOptimisticLockingFailureException {
+
+    public StaleVersionException(Class<?> persistentClass, Object identifier) {
+        super(persistentClass, identifier);
+    }
+}
@@ -0,0 +1,29 @@
+package com.coderahul.employeemanagement.instrumentation;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.type.Type;
+
+/**
+ * Counts Hibernate sessions and entity loads into the current {@link RequestProfile}. Hibernate
+ * creates one instance per session as its session event listener, which counts the session, and
+ * uses a shared instance as interceptor, which counts every entity it hydrates.
+ */
+public class HibernateProfilingListener implements SessionEventListener, Interceptor {
+
+    public HibernateProfilingListener() {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.sessionOpened();
+        }
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.entityLoaded();
+        }
+        return false;
+    }
+}
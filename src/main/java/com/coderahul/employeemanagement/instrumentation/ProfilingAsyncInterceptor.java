@@ -0,0 +1,27 @@
+package com.coderahul.employeemanagement.instrumentation;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Moves the request's {@link RequestProfile} onto the async thread that writes a streaming
+ * response, so the SQL of an export is attributed to the request that started it.
+ */
+public class ProfilingAsyncInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object profile = request.getAttribute(RequestProfilingFilter.PROFILE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (profile instanceof RequestProfile requestProfile) {
+            RequestProfile.bind(requestProfile);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestProfile.unbind();
+    }
+}
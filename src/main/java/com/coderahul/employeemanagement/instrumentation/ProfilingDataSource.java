@@ -0,0 +1,106 @@
+package com.coderahul.employeemanagement.instrumentation;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records every statement executed and every row fetched into the current
+ * {@link RequestProfile}. Connections taken outside a profiled request are returned as they are,
+ * so Flyway, startup loading and background jobs pay nothing.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    public ProfilingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(super.getConnection(username, password));
+    }
+
+    private static Connection profile(Connection connection) {
+        if (RequestProfile.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL, createStatement passes it to execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return profileStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement profileStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        // getResultSet after execute() belongs to the last execution
+        RequestProfile.SqlExecution[] last = new RequestProfile.SqlExecution[1];
+        return proxy(type, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet ? profileResultSet(resultSet, last[0]) : result;
+            }
+            RequestProfile profile = RequestProfile.current();
+            if (profile == null) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            RequestProfile.SqlExecution execution = profile.statementStarted(sql);
+            last[0] = execution;
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet ? profileResultSet(resultSet, execution) : result;
+            } finally {
+                profile.statementFinished(execution, System.nanoTime() - start);
+            }
+        });
+    }
+
+    // execution is null for a result set of a statement that ran outside the request; rows are still counted
+    private static ResultSet profileResultSet(ResultSet resultSet, RequestProfile.SqlExecution execution) {
+        RequestProfile.SqlExecution target = execution != null ? execution : new RequestProfile.SqlExecution(null);
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                RequestProfile profile = RequestProfile.current();
+                if (profile != null) {
+                    profile.rowFetched(target);
+                }
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<? extends T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.coderahul.employeemanagement.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What one HTTP request did: SQL statements and rows fetched, Hibernate sessions and entity
+ * loads, and response bytes. The profile is bound to the thread that currently works on the
+ * request, which is the request thread and, for streaming responses, the async thread that
+ * writes the body. Only one thread updates it at a time.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final int maxCapturedStatements;
+    private final List<SqlExecution> captured = new ArrayList<>();
+    private int statements;
+    private long sqlNanos;
+    private long rowsFetched;
+    private int sessions;
+    private int entityLoads;
+    private long responseBytes;
+
+    RequestProfile(int maxCapturedStatements) {
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    /**
+     * The profile of the request the calling thread is working on, or null outside a profiled
+     * request (startup, scheduled tasks, report job workers).
+     */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestProfile profile) {
+        CURRENT.set(profile);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    SqlExecution statementStarted(String sql) {
+        statements++;
+        SqlExecution execution = new SqlExecution(sql);
+        if (captured.size() < maxCapturedStatements) {
+            captured.add(execution);
+        }
+        return execution;
+    }
+
+    void statementFinished(SqlExecution execution, long nanos) {
+        execution.nanos = nanos;
+        sqlNanos += nanos;
+    }
+
+    void rowFetched(SqlExecution execution) {
+        execution.rows++;
+        rowsFetched++;
+    }
+
+    void sessionOpened() {
+        sessions++;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void bytesWritten(long bytes) {
+        responseBytes += bytes;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long sqlNanos() {
+        return sqlNanos;
+    }
+
+    public long rowsFetched() {
+        return rowsFetched;
+    }
+
+    public int sessions() {
+        return sessions;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public long responseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * The first statements of the request, up to {@code app.profiling.max-captured-statements}.
+     */
+    public List<SqlExecution> capturedStatements() {
+        return Collections.unmodifiableList(captured);
+    }
+
+    public static final class SqlExecution {
+        private final String sql;
+        private long nanos;
+        private long rows;
+
+        SqlExecution(String sql) {
+            this.sql = sql;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public long rows() {
+            return rows;
+        }
+    }
+}
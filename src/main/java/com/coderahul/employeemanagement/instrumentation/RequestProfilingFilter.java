@@ -0,0 +1,232 @@
+package com.coderahul.employeemanagement.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiles every request handled by one of the application's controllers and publishes, tagged
+ * with the handler ({@code EmployeeController.getEmployeeById}):
+ * <ul>
+ *     <li>{@code app.request.latency} - latency timer with p50/p95/p99 and a histogram</li>
+ *     <li>{@code app.request.sql.statements} and {@code app.request.sql.rows} - statements executed and rows fetched</li>
+ *     <li>{@code app.request.hibernate.sessions} and {@code app.request.hibernate.entity.loads}</li>
+ *     <li>{@code app.request.response.bytes} - response body size</li>
+ * </ul>
+ * Requests slower than {@code app.profiling.slow-request-threshold} are logged with their SQL.
+ * Streaming responses are recorded when the body has been written.
+ */
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    static final String PROFILE_ATTRIBUTE = RequestProfilingFilter.class.getName() + ".profile";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfilingFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final String controllerPackage;
+    private final Duration slowRequestThreshold;
+    private final int maxCapturedStatements;
+
+    public RequestProfilingFilter(MeterRegistry meterRegistry, String controllerPackage,
+                                  Duration slowRequestThreshold, int maxCapturedStatements) {
+        this.meterRegistry = meterRegistry;
+        this.controllerPackage = controllerPackage;
+        this.slowRequestThreshold = slowRequestThreshold;
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestProfile profile = new RequestProfile(maxCapturedStatements);
+        request.setAttribute(PROFILE_ATTRIBUTE, profile);
+        RequestProfile.bind(profile);
+        try {
+            chain.doFilter(request, new CountingResponse(response, profile));
+        } finally {
+            RequestProfile.unbind();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response, profile);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, response, profile);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestProfile profile) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)
+                || !handler.getBeanType().getPackageName().startsWith(controllerPackage)) {
+            return;
+        }
+        String handlerName = handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        long elapsed = profile.elapsedNanos();
+        Timer.builder("app.request.latency")
+                .description("Handler latency including response serialization")
+                .tag("handler", handlerName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        summary("app.request.sql.statements", "SQL statements executed per request", null, handlerName)
+                .record(profile.statements());
+        summary("app.request.sql.rows", "Result set rows fetched per request", "rows", handlerName)
+                .record(profile.rowsFetched());
+        summary("app.request.hibernate.sessions", "Hibernate sessions opened per request", null, handlerName)
+                .record(profile.sessions());
+        summary("app.request.hibernate.entity.loads", "Entities loaded by Hibernate per request", null, handlerName)
+                .record(profile.entityLoads());
+        summary("app.request.response.bytes", "Response body size", "bytes", handlerName)
+                .record(profile.responseBytes());
+
+        if (elapsed >= slowRequestThreshold.toNanos() && log.isWarnEnabled()) {
+            log.warn(slowRequestMessage(request, response, handlerName, elapsed, profile));
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, String handlerName) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tag("handler", handlerName)
+                .register(meterRegistry);
+    }
+
+    private static String slowRequestMessage(HttpServletRequest request, HttpServletResponse response,
+                                             String handlerName, long elapsed, RequestProfile profile) {
+        StringBuilder message = new StringBuilder()
+                .append("Slow request ").append(request.getMethod()).append(' ').append(request.getRequestURI())
+                .append(" -> ").append(handlerName).append(" (").append(response.getStatus()).append(") took ")
+                .append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append(" ms: ")
+                .append(profile.statements()).append(" statements in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(profile.sqlNanos())).append(" ms, ")
+                .append(profile.rowsFetched()).append(" rows, ")
+                .append(profile.sessions()).append(" sessions, ")
+                .append(profile.entityLoads()).append(" entity loads, ")
+                .append(profile.responseBytes()).append(" bytes");
+        for (RequestProfile.SqlExecution execution : profile.capturedStatements()) {
+            message.append("\n  ").append(TimeUnit.NANOSECONDS.toMillis(execution.nanos())).append(" ms, ")
+                    .append(execution.rows()).append(" rows: ").append(execution.sql());
+        }
+        if (profile.statements() > profile.capturedStatements().size()) {
+            message.append("\n  ... ").append(profile.statements() - profile.capturedStatements().size())
+                    .append(" more statements");
+        }
+        return message.toString();
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private final RequestProfile profile;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream(), profile);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final RequestProfile profile;
+
+        CountingOutputStream(ServletOutputStream delegate, RequestProfile profile) {
+            this.delegate = delegate;
+            this.profile = profile;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            profile.bytesWritten(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            profile.bytesWritten(len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.coderahul.employeemanagement.job;
+
+import com.coderahul.employeemanagement.exception.JobQueueFullException;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed pool of worker threads fed from a priority queue: higher priority first, then in
+ * submission order. The queue is bounded by {@code maxQueued}; beyond that submissions are
+ * rejected rather than piling up.
+ */
+public class PriorityJobExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final PriorityBlockingQueue<Runnable> queue = new PriorityBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int maxQueued;
+
+    public PriorityJobExecutor(int workers, int maxQueued, String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.maxQueued = maxQueued;
+    }
+
+    public synchronized void submit(long jobId, int priority, Runnable task) {
+        if (queue.size() >= maxQueued) {
+            throw new JobQueueFullException("Job queue is full (" + maxQueued + " jobs waiting)");
+        }
+        // execute, not submit: a FutureTask wrapper would not be Comparable
+        executor.execute(new Entry(jobId, priority, sequence.incrementAndGet(), task));
+    }
+
+    /**
+     * Drops the job if it is still waiting. Returns false once a worker has taken it.
+     */
+    public boolean removeQueued(long jobId) {
+        return queue.removeIf(runnable -> ((Entry) runnable).jobId == jobId);
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public int running() {
+        return executor.getActiveCount();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    private record Entry(long jobId, int priority, long sequence, Runnable task) implements Runnable, Comparable<Entry> {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byPriority = Integer.compare(other.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.coderahul.employeemanagement.job;
+
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.ReportJob;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed NDJSON or CSV output of a report job. NDJSON writes one object per line:
+ * an employee, or a department with its employees. CSV is flat: employee CSV uses the import
+ * header (plus id) so an export can be imported again, and department CSV repeats the
+ * department columns on every employee row.
+ */
+public class ReportFileWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String EMPLOYEE_COLUMNS =
+            "id,firstName,lastName,email,phoneNumber,hireDate,salary,departmentId,employmentStatus";
+
+    private final OutputStream out;
+    private final Writer csv;
+    private final ObjectWriter json;
+    private long rows;
+
+    public ReportFileWriter(Path file, ReportJob.Type type, ReportJob.Format format, ObjectMapper objectMapper) throws IOException {
+        this.out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), BUFFER_SIZE);
+        this.json = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.csv = format == ReportJob.Format.CSV ? new OutputStreamWriter(out, StandardCharsets.UTF_8) : null;
+        if (csv != null) {
+            csv.write(type == ReportJob.Type.EMPLOYEE_EXPORT ? EMPLOYEE_COLUMNS
+                    : "departmentId,departmentName,description," + EMPLOYEE_COLUMNS.replace("departmentId,", ""));
+            csv.write('\n');
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public void writeEmployee(EmployeeDto employee) throws IOException {
+        if (csv != null) {
+            writeEmployeeColumns(employee, true);
+            csv.write('\n');
+        } else {
+            writeJson(employee);
+        }
+        rows++;
+    }
+
+    public void writeDepartment(DepartmentWithEmployeesDto department) throws IOException {
+        if (csv == null) {
+            writeJson(department);
+            rows += Math.max(1, department.employees().size());
+            return;
+        }
+        if (department.employees().isEmpty()) {
+            writeDepartmentColumns(department);
+            csv.write(",,,,,,,,\n");
+            rows++;
+        }
+        for (EmployeeDto employee : department.employees()) {
+            writeDepartmentColumns(department);
+            csv.write(',');
+            writeEmployeeColumns(employee, false);
+            csv.write('\n');
+            rows++;
+        }
+    }
+
+    private void writeJson(Object value) throws IOException {
+        json.writeValue(out, value);
+        out.write('\n');
+    }
+
+    private void writeDepartmentColumns(DepartmentWithEmployeesDto department) throws IOException {
+        csv.write(field(department.id()));
+        csv.write(',');
+        csv.write(field(department.departmentName()));
+        csv.write(',');
+        csv.write(field(department.description()));
+    }
+
+    private void writeEmployeeColumns(EmployeeDto employee, boolean withDepartment) throws IOException {
+        csv.write(field(employee.id()));
+        csv.write(',');
+        csv.write(field(employee.firstName()));
+        csv.write(',');
+        csv.write(field(employee.lastName()));
+        csv.write(',');
+        csv.write(field(employee.email()));
+        csv.write(',');
+        csv.write(field(employee.phoneNumber()));
+        csv.write(',');
+        csv.write(field(employee.hireDate()));
+        csv.write(',');
+        csv.write(field(employee.salary() == null ? null : employee.salary().toPlainString()));
+        if (withDepartment) {
+            csv.write(',');
+            csv.write(field(employee.departmentId()));
+        }
+        csv.write(',');
+        csv.write(field(employee.employmentStatus()));
+    }
+
+    private static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (csv != null) {
+            csv.close();
+        } else {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.coderahul.employeemanagement.repository;
+
+import com.coderahul.employeemanagement.entity.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    List<ChangeEvent> findBySeqBetweenOrderBySeqAsc(long fromSeq, long toSeq, Limit limit);
+
+    @Query("SELECT MIN(c.seq) FROM ChangeEvent c")
+    Long findMinSeq();
+
+    @Query("SELECT MAX(c.seq) FROM ChangeEvent c")
+    Long findMaxSeq();
+
+    @Query("SELECT MAX(c.seq) FROM ChangeEvent c WHERE c.occurredAt < :cutoff")
+    Long findMaxSeqOccurredBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ChangeEvent c WHERE c.seq <= :seq")
+    int deleteThrough(@Param("seq") long seq);
+}
@@ -1,10 +1,14 @@
 package com.coderahul.employeemanagement.repository;
 
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentEmployeeRow;
 import com.coderahul.employeemanagement.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +17,25 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
     Optional<Department> findByDepartmentName(String departmentName);
 
-    List<Department> findByDepartmentNameContainingIgnoreCase(String departmentName);
+    @Query("SELECT new com.coderahul.employeemanagement.dto.DepartmentDto(d.id, d.departmentName, d.description) " +
+            "FROM Department d ORDER BY d.id")
+    List<DepartmentDto> findAllDtos();
 
-    @Query("SELECT d FROM Department d JOIN FETCH d.employees")
-    List<Department> findAllWithEmployees();
+    @Query("SELECT new com.coderahul.employeemanagement.dto.DepartmentDto(d.id, d.departmentName, d.description) " +
+            "FROM Department d WHERE d.id IN :ids")
+    List<DepartmentDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.coderahul.employeemanagement.dto.DepartmentDto(d.id, d.departmentName, d.description) " +
+            "FROM Department d WHERE LOWER(d.departmentName) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY d.id")
+    List<DepartmentDto> findDtosByDepartmentNameContainingIgnoreCase(@Param("name") String name);
+
+    @Query("SELECT new com.coderahul.employeemanagement.dto.DepartmentEmployeeRow(d.id, d.departmentName, d.description, " +
+            "e.id, e.firstName, e.lastName, e.email, e.phoneNumber, e.hireDate, e.salary, e.employmentStatus) " +
+            "FROM Department d LEFT JOIN d.employees e ORDER BY d.id, e.id")
+    List<DepartmentEmployeeRow> findAllWithEmployeeRows();
 
     boolean existsByDepartmentName(String departmentName);
+
+    @Query("SELECT d.id FROM Department d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.coderahul.employeemanagement.repository;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeKeyset;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentRequest;
+
+import java.util.List;
+
+public interface EmployeeQueryRepository {
+
+    List<EmployeeDto> findByQuery(EmployeeQuery query, EmployeeKeyset after, int limit);
+
+    /**
+     * Next chunk of salaried employees selected by {@code request}, ordered by id, optionally
+     * locked for update until the surrounding transaction ends.
+     */
+    List<EmployeeDto> findSalariedForAdjustment(SalaryAdjustmentRequest request, long afterId, int limit, boolean lock);
+}
\ No newline at end of file
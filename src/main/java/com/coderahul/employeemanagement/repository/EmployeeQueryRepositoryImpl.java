@@ -0,0 +1,149 @@
+package com.coderahul.employeemanagement.repository;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeKeyset;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
+import com.coderahul.employeemanagement.dto.EmployeeSort;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds one JPQL statement per combination of present filters, sort and cursor, and caches it.
+ * Values are always bound as parameters, so every request with the same shape reuses the same
+ * string and therefore Hibernate's cached parse and SQL translation for it.
+ */
+class EmployeeQueryRepositoryImpl implements EmployeeQueryRepository {
+
+    private record Shape(boolean departments, boolean statuses, boolean hiredFrom, boolean hiredTo,
+                         boolean minSalary, boolean maxSalary, EmployeeSort sort, boolean descending, boolean keyset) {
+
+        static Shape of(EmployeeQuery query, EmployeeKeyset after) {
+            return new Shape(query.hasDepartmentIds(), query.hasStatuses(), query.hiredFrom() != null,
+                    query.hiredTo() != null, query.minSalary() != null, query.maxSalary() != null,
+                    query.sort(), query.descending(), after != null);
+        }
+    }
+
+    private final Map<Shape, String> statements = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeDto> findByQuery(EmployeeQuery query, EmployeeKeyset after, int limit) {
+        String jpql = statements.computeIfAbsent(Shape.of(query, after), EmployeeQueryRepositoryImpl::buildJpql);
+        TypedQuery<EmployeeDto> typedQuery = entityManager.createQuery(jpql, EmployeeDto.class);
+        if (query.hasDepartmentIds()) {
+            typedQuery.setParameter("departmentIds", query.departmentIds());
+        }
+        if (query.hasStatuses()) {
+            typedQuery.setParameter("statuses", query.statuses());
+        }
+        if (query.hiredFrom() != null) {
+            typedQuery.setParameter("hiredFrom", query.hiredFrom());
+        }
+        if (query.hiredTo() != null) {
+            typedQuery.setParameter("hiredTo", query.hiredTo());
+        }
+        if (query.minSalary() != null) {
+            typedQuery.setParameter("minSalary", query.minSalary());
+        }
+        if (query.maxSalary() != null) {
+            typedQuery.setParameter("maxSalary", query.maxSalary());
+        }
+        if (after != null) {
+            typedQuery.setParameter("afterId", after.id());
+            if (query.sort() != EmployeeSort.ID) {
+                typedQuery.setParameter("afterKey", after.key());
+            }
+        }
+        return typedQuery.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<EmployeeDto> findSalariedForAdjustment(SalaryAdjustmentRequest request, long afterId, int limit, boolean lock) {
+        StringBuilder jpql = new StringBuilder(EmployeeRepository.SELECT_EMPLOYEE_DTO)
+                .append("WHERE e.salary IS NOT NULL AND e.id > :afterId ");
+        if (request.hasDepartmentIds()) {
+            jpql.append("AND e.department.id IN :departmentIds ");
+        }
+        if (request.hasStatuses()) {
+            jpql.append("AND e.employmentStatus IN :statuses ");
+        }
+        if (request.hasEmployeeIds()) {
+            jpql.append("AND e.id IN :employeeIds ");
+        }
+        TypedQuery<EmployeeDto> typedQuery = entityManager.createQuery(jpql.append("ORDER BY e.id").toString(), EmployeeDto.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        if (request.hasDepartmentIds()) {
+            typedQuery.setParameter("departmentIds", request.departmentIds());
+        }
+        if (request.hasStatuses()) {
+            typedQuery.setParameter("statuses", request.statuses());
+        }
+        if (request.hasEmployeeIds()) {
+            typedQuery.setParameter("employeeIds", request.employeeIds());
+        }
+        if (lock) {
+            typedQuery.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static String buildJpql(Shape shape) {
+        List<String> conditions = new ArrayList<>();
+        if (shape.departments()) {
+            conditions.add("e.department.id IN :departmentIds");
+        }
+        if (shape.statuses()) {
+            conditions.add("e.employmentStatus IN :statuses");
+        }
+        if (shape.hiredFrom()) {
+            conditions.add("e.hireDate >= :hiredFrom");
+        }
+        if (shape.hiredTo()) {
+            conditions.add("e.hireDate <= :hiredTo");
+        }
+        if (shape.minSalary()) {
+            conditions.add("e.salary >= :minSalary");
+        }
+        if (shape.maxSalary()) {
+            conditions.add("e.salary <= :maxSalary");
+        }
+        String direction = shape.descending() ? " DESC" : " ASC";
+        String after = shape.descending() ? " < " : " > ";
+        String afterOrEqual = shape.descending() ? " <= " : " >= ";
+        String orderBy;
+        if (shape.sort() == EmployeeSort.ID) {
+            if (shape.keyset()) {
+                conditions.add("e.id" + after + ":afterId");
+            }
+            orderBy = "e.id" + direction;
+        } else {
+            String key = "e." + shape.sort().property();
+            if (shape.sort() == EmployeeSort.SALARY) {
+                // Rows without a salary have no position in a salary ordering
+                conditions.add(key + " IS NOT NULL");
+            }
+            if (shape.keyset()) {
+                // Range-bounded on the key column first so the index scan starts at the cursor
+                conditions.add(key + afterOrEqual + ":afterKey AND (" + key + after + ":afterKey OR e.id" + after + ":afterId)");
+            }
+            orderBy = key + direction + ", e.id" + direction;
+        }
+        StringBuilder jpql = new StringBuilder(EmployeeRepository.SELECT_EMPLOYEE_DTO);
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        return jpql.append("ORDER BY ").append(orderBy).toString();
+    }
+}
\ No newline at end of file
@@ -1,19 +1,31 @@
 package com.coderahul.employeemanagement.repository;
 
+import com.coderahul.employeemanagement.dto.EmployeeDto;
 import com.coderahul.employeemanagement.entity.Employee;
 import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeQueryRepository {
+
+    String SELECT_EMPLOYEE_DTO = "SELECT new com.coderahul.employeemanagement.dto.EmployeeDto(e.id, e.firstName, " +
+            "e.lastName, e.email, e.phoneNumber, e.hireDate, e.salary, e.department.id, e.employmentStatus) " +
+            "FROM Employee e ";
 
     Optional<Employee> findByEmail(String email);
 
@@ -21,18 +33,22 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     List<Employee> findByLastNameContainingIgnoreCase(String lastName);
 
-    List<Employee> findByDepartmentId(Long departmentId);
+    @Query(SELECT_EMPLOYEE_DTO + "ORDER BY e.id")
+    List<EmployeeDto> findAllDtos();
 
-    List<Employee> findByEmploymentStatus(EmploymentStatus status);
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.department.id = :departmentId")
+    List<EmployeeDto> findDtosByDepartmentId(@Param("departmentId") Long departmentId);
 
-    List<Employee> findByHireDateBetween(LocalDate startDate, LocalDate endDate);
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.employmentStatus = :status")
+    List<EmployeeDto> findDtosByEmploymentStatus(@Param("status") EmploymentStatus status);
 
-    List<Employee> findBySalaryGreaterThan(BigDecimal salary);
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.hireDate BETWEEN :startDate AND :endDate")
+    List<EmployeeDto> findDtosByHireDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    List<Employee> findBySalaryBetween(BigDecimal minSalary, BigDecimal maxSalary);
+    List<Employee> findBySalaryGreaterThan(BigDecimal salary);
 
-    @Query("SELECT e FROM Employee e WHERE e.firstName LIKE %:name% OR e.lastName LIKE %:name%")
-    List<Employee> findByFirstNameOrLastNameContaining(@Param("name") String name);
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.salary BETWEEN :minSalary AND :maxSalary")
+    List<EmployeeDto> findDtosBySalaryBetween(@Param("minSalary") BigDecimal minSalary, @Param("maxSalary") BigDecimal maxSalary);
 
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
     Long countEmployeesByDepartmentId(@Param("departmentId") Long departmentId);
@@ -41,4 +57,44 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     BigDecimal findAverageSalaryByDepartment(@Param("departmentId") Long departmentId);
 
     boolean existsByEmail(String email);
+
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.id > :after ORDER BY e.id")
+    List<EmployeeDto> findPageAfter(@Param("after") Long after, Limit limit);
+
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.id IN :ids")
+    List<EmployeeDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_EMPLOYEE_DTO + "WHERE e.email IN :emails")
+    List<EmployeeDto> findDtosByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.department.id, e.employmentStatus, e.salary FROM Employee e")
+    Stream<Object[]> streamSalaryRows();
+
+    @Query("SELECT e.department.id, COUNT(e), SUM(e.salary), MIN(e.salary), MAX(e.salary) " +
+            "FROM Employee e WHERE e.department IS NOT NULL GROUP BY e.department.id")
+    List<Object[]> aggregateSalariesByDepartment();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_EMPLOYEE_DTO + "ORDER BY e.id")
+    Stream<EmployeeDto> streamAllOrderedById();
+
+    // Bulk updates bypass @Version, so both raises increment it themselves.
+    // The cast stops the factor being bound with the salary column's scale (1.035 would become 1.04)
+    @Modifying
+    @Query("UPDATE Employee e SET e.salary = ROUND(e.salary * CAST(:factor AS BigDecimal(10, 6)), 2), " +
+            "e.version = e.version + 1 WHERE e.id IN :ids " +
+            "AND ROUND(e.salary * CAST(:factor AS BigDecimal(10, 6)), 2) > e.salary " +
+            "AND ROUND(e.salary * CAST(:factor AS BigDecimal(10, 6)), 2) <= :maxSalary")
+    int raiseSalariesByFactor(@Param("ids") Collection<Long> ids, @Param("factor") BigDecimal factor,
+                              @Param("maxSalary") BigDecimal maxSalary);
+
+    @Modifying
+    @Query("UPDATE Employee e SET e.salary = e.salary + :amount, e.version = e.version + 1 WHERE e.id IN :ids " +
+            "AND e.salary + :amount > e.salary AND e.salary + :amount <= :maxSalary")
+    int raiseSalariesByAmount(@Param("ids") Collection<Long> ids, @Param("amount") BigDecimal amount,
+                              @Param("maxSalary") BigDecimal maxSalary);
 }
\ No newline at end of file
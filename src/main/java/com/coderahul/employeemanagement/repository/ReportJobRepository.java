@@ -0,0 +1,21 @@
+package com.coderahul.employeemanagement.repository;
+
+import com.coderahul.employeemanagement.entity.ReportJob;
+import com.coderahul.employeemanagement.entity.ReportJob.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    List<ReportJob> findByStatusInOrderByIdAsc(Collection<Status> statuses);
+
+    List<ReportJob> findByFinishedAtBefore(LocalDateTime finishedBefore);
+
+    List<ReportJob> findByOrderByIdDesc(Limit limit);
+}
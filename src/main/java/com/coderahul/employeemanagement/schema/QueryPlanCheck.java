@@ -0,0 +1,124 @@
+package com.coderahul.employeemanagement.schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Logs the EXPLAIN plan of every repository query at startup and fails when one that should be
+ * index-backed is planned as a full table scan. On PostgreSQL sequential scans are disabled for
+ * the check, so a seq scan in the plan means no usable index exists rather than that the planner
+ * preferred one on a small table.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.schema.plan-check.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryPlanCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanCheck.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean failOnScan;
+
+    @Autowired
+    public QueryPlanCheck(JdbcTemplate jdbcTemplate,
+                          @Value("${app.schema.plan-check.fail-on-scan:true}") boolean failOnScan) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.failOnScan = failOnScan;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        checkProbeCoverage();
+        List<String> scans = jdbcTemplate.execute((ConnectionCallback<List<String>>) this::explainAll);
+        if (scans == null || scans.isEmpty()) {
+            return;
+        }
+        String message = "Query plans with a full table scan: " + String.join(", ", scans);
+        if (failOnScan) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private void checkProbeCoverage() {
+        Set<String> missing = new TreeSet<>();
+        for (Map.Entry<Class<?>, List<QueryPlanProbe>> entry : QueryPlanProbes.BY_REPOSITORY.entrySet()) {
+            Set<String> probed = entry.getValue().stream().map(QueryPlanProbe::method).collect(Collectors.toSet());
+            for (Method method : entry.getKey().getDeclaredMethods()) {
+                if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && !probed.contains(method.getName())) {
+                    missing.add(entry.getKey().getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("No query plan probe for " + missing + "; add one to QueryPlanProbes");
+        }
+    }
+
+    private List<String> explainAll(Connection connection) throws SQLException {
+        String database = connection.getMetaData().getDatabaseProductName();
+        boolean postgres = database.equals("PostgreSQL");
+        if (!postgres && !database.equals("H2")) {
+            log.warn("Skipping query plan check, no plan rules for {}", database);
+            return List.of();
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+            }
+            List<String> scans = new ArrayList<>();
+            for (Map.Entry<Class<?>, List<QueryPlanProbe>> entry : QueryPlanProbes.BY_REPOSITORY.entrySet()) {
+                for (QueryPlanProbe probe : entry.getValue()) {
+                    String name = entry.getKey().getSimpleName() + "." + probe.method();
+                    String plan = explain(statement, probe.sql());
+                    boolean scan = postgres ? plan.contains("Seq Scan") : plan.contains(".tableScan");
+                    log.info("{}{}:\n{}", name, scan ? " [full scan]" : "", plan);
+                    if (scan && probe.mustUseIndex()) {
+                        scans.add(name);
+                    } else if (scan) {
+                        log.info("{} scans by design: {}", name, probe.scanReason());
+                    }
+                }
+            }
+            return scans;
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private String explain(Statement statement, String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+            while (plan.next()) {
+                lines.add(plan.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+}
\ No newline at end of file
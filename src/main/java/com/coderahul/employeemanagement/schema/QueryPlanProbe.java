@@ -0,0 +1,20 @@
+package com.coderahul.employeemanagement.schema;
+
+/**
+ * Hand-written SQL equivalent of one repository query method, with representative literals in
+ * place of the bind parameters. {@code scanReason} is null when the plan must use an index.
+ */
+public record QueryPlanProbe(String method, String sql, String scanReason) {
+
+    public static QueryPlanProbe indexed(String method, String sql) {
+        return new QueryPlanProbe(method, sql, null);
+    }
+
+    public static QueryPlanProbe scanAllowed(String method, String sql, String scanReason) {
+        return new QueryPlanProbe(method, sql, scanReason);
+    }
+
+    public boolean mustUseIndex() {
+        return scanReason == null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.coderahul.employeemanagement.schema;
+
+import com.coderahul.employeemanagement.repository.ChangeEventRepository;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeQueryRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.repository.ReportJobRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.coderahul.employeemanagement.schema.QueryPlanProbe.indexed;
+import static com.coderahul.employeemanagement.schema.QueryPlanProbe.scanAllowed;
+
+/**
+ * At least one probe per query method declared on the repositories, one per typical shape for the
+ * dynamic query. {@link QueryPlanCheck} refuses to start when a repository gains a method that has
+ * no probe here.
+ */
+final class QueryPlanProbes {
+
+    private static final String EMPLOYEE_COLUMNS = "SELECT id, first_name, last_name, email, phone_number, hire_date, " +
+            "salary, department_id, employment_status FROM employees ";
+
+    private static final String REPORT_JOB_COLUMNS = "SELECT id, job_type, job_format, priority, status, spec, " +
+            "rows_written, result_bytes, error, created_at, started_at, finished_at FROM report_jobs ";
+
+    private static final String CHANGE_EVENT_COLUMNS = "SELECT seq, entity_type, entity_id, operation, occurred_at, data " +
+            "FROM change_events ";
+
+    private static final String LEADING_WILDCARD = "leading-wildcard LIKE cannot use a B-tree index; " +
+            "name search is served by the in-memory search index";
+
+    static final Map<Class<?>, List<QueryPlanProbe>> BY_REPOSITORY = Map.of(
+            EmployeeRepository.class, List.of(
+                    indexed("findByEmail", EMPLOYEE_COLUMNS + "WHERE email = 'probe@example.com'"),
+                    scanAllowed("findByFirstNameContainingIgnoreCase",
+                            EMPLOYEE_COLUMNS + "WHERE UPPER(first_name) LIKE UPPER('%probe%')", LEADING_WILDCARD),
+                    scanAllowed("findByLastNameContainingIgnoreCase",
+                            EMPLOYEE_COLUMNS + "WHERE UPPER(last_name) LIKE UPPER('%probe%')", LEADING_WILDCARD),
+                    indexed("findAllDtos", EMPLOYEE_COLUMNS + "ORDER BY id"),
+                    indexed("findDtosByDepartmentId", EMPLOYEE_COLUMNS + "WHERE department_id = 1"),
+                    indexed("findDtosByEmploymentStatus", EMPLOYEE_COLUMNS + "WHERE employment_status = 'TERMINATED'"),
+                    indexed("findDtosByHireDateBetween",
+                            EMPLOYEE_COLUMNS + "WHERE hire_date BETWEEN DATE '2015-01-01' AND DATE '2015-12-31'"),
+                    indexed("findBySalaryGreaterThan", EMPLOYEE_COLUMNS + "WHERE salary > 150000"),
+                    indexed("findDtosBySalaryBetween", EMPLOYEE_COLUMNS + "WHERE salary BETWEEN 90000 AND 95000"),
+                    indexed("countEmployeesByDepartmentId", "SELECT COUNT(id) FROM employees WHERE department_id = 1"),
+                    indexed("findAverageSalaryByDepartment", "SELECT AVG(salary) FROM employees WHERE department_id = 1"),
+                    indexed("existsByEmail", "SELECT id FROM employees WHERE email = 'probe@example.com' FETCH FIRST 1 ROWS ONLY"),
+                    indexed("findPageAfter", EMPLOYEE_COLUMNS + "WHERE id > 100 ORDER BY id FETCH FIRST 51 ROWS ONLY"),
+                    indexed("findDtosByIdIn", EMPLOYEE_COLUMNS + "WHERE id IN (1, 2, 3)"),
+                    indexed("findDtosByEmailIn", EMPLOYEE_COLUMNS + "WHERE email IN ('a@example.com', 'b@example.com')"),
+                    indexed("findExistingEmails", "SELECT email FROM employees WHERE email IN ('a@example.com', 'b@example.com')"),
+                    indexed("streamSalaryRows", "SELECT department_id, employment_status, salary FROM employees"),
+                    indexed("aggregateSalariesByDepartment", "SELECT department_id, COUNT(id), SUM(salary), MIN(salary), " +
+                            "MAX(salary) FROM employees WHERE department_id IS NOT NULL GROUP BY department_id"),
+                    indexed("streamAllOrderedById", EMPLOYEE_COLUMNS + "ORDER BY id"),
+                    indexed("raiseSalariesByFactor", "UPDATE employees SET salary = ROUND(salary * 1.035, 2), version = version + 1 " +
+                            "WHERE id IN (1, 2, 3) AND ROUND(salary * 1.035, 2) > salary AND ROUND(salary * 1.035, 2) <= 9999999999.99"),
+                    indexed("raiseSalariesByAmount", "UPDATE employees SET salary = salary + 1000, version = version + 1 " +
+                            "WHERE id IN (1, 2, 3) AND salary + 1000 > salary AND salary + 1000 <= 9999999999.99")),
+            DepartmentRepository.class, List.of(
+                    indexed("findByDepartmentName",
+                            "SELECT id, department_name, description FROM departments WHERE department_name = 'Finance'"),
+                    indexed("findAllDtos", "SELECT id, department_name, description FROM departments ORDER BY id"),
+                    indexed("findDtosByIdIn", "SELECT id, department_name, description FROM departments WHERE id IN (1, 2, 3)"),
+                    scanAllowed("findDtosByDepartmentNameContainingIgnoreCase",
+                            "SELECT id, department_name, description FROM departments " +
+                                    "WHERE LOWER(department_name) LIKE LOWER('%probe%') ORDER BY id", LEADING_WILDCARD),
+                    scanAllowed("findAllWithEmployeeRows", "SELECT d.id, d.department_name, d.description, e.id, e.first_name, " +
+                            "e.last_name, e.email, e.phone_number, e.hire_date, e.salary, e.employment_status " +
+                            "FROM departments d LEFT JOIN employees e ON e.department_id = d.id ORDER BY d.id, e.id",
+                            "returns every department; the employee side is joined through the department index"),
+                    indexed("existsByDepartmentName",
+                            "SELECT id FROM departments WHERE department_name = 'Finance' FETCH FIRST 1 ROWS ONLY"),
+                    indexed("findExistingIds", "SELECT id FROM departments WHERE id IN (1, 2, 3)")),
+            EmployeeQueryRepository.class, List.of(
+                    indexed("findByQuery", EMPLOYEE_COLUMNS + "WHERE department_id IN (1, 2) AND employment_status IN ('ACTIVE') " +
+                            "AND hire_date >= DATE '2021-01-01' AND salary >= 80000 AND salary <= 100000 " +
+                            "ORDER BY id FETCH FIRST 101 ROWS ONLY"),
+                    indexed("findByQuery", EMPLOYEE_COLUMNS + "ORDER BY hire_date, id FETCH FIRST 101 ROWS ONLY"),
+                    indexed("findByQuery", EMPLOYEE_COLUMNS + "WHERE salary IS NOT NULL AND salary >= 90000 " +
+                            "AND (salary > 90000 OR id > 10) ORDER BY salary, id FETCH FIRST 101 ROWS ONLY"),
+                    indexed("findByQuery", EMPLOYEE_COLUMNS + "WHERE hire_date <= DATE '2020-01-01' " +
+                            "AND (hire_date < DATE '2020-01-01' OR id < 10) ORDER BY hire_date DESC, id DESC FETCH FIRST 101 ROWS ONLY"),
+                    indexed("findSalariedForAdjustment", EMPLOYEE_COLUMNS + "WHERE salary IS NOT NULL AND id > 0 " +
+                            "AND department_id IN (1, 2) AND employment_status IN ('ACTIVE') ORDER BY id FETCH FIRST 1000 ROWS ONLY")),
+            ReportJobRepository.class, List.of(
+                    indexed("findByStatusInOrderByIdAsc", REPORT_JOB_COLUMNS + "WHERE status IN ('QUEUED', 'RUNNING') ORDER BY id"),
+                    indexed("findByFinishedAtBefore", REPORT_JOB_COLUMNS + "WHERE finished_at < TIMESTAMP '2024-01-01 00:00:00'"),
+                    scanAllowed("findByOrderByIdDesc", REPORT_JOB_COLUMNS + "ORDER BY id DESC FETCH FIRST 100 ROWS ONLY",
+                            "report_jobs only holds the jobs of the retention period")),
+            ChangeEventRepository.class, List.of(
+                    indexed("findBySeqBetweenOrderBySeqAsc", CHANGE_EVENT_COLUMNS + "WHERE seq BETWEEN 101 AND 200 ORDER BY seq FETCH FIRST 501 ROWS ONLY"),
+                    indexed("findMinSeq", "SELECT MIN(seq) FROM change_events"),
+                    indexed("findMaxSeq", "SELECT MAX(seq) FROM change_events"),
+                    indexed("findMaxSeqOccurredBefore", "SELECT MAX(seq) FROM change_events " +
+                            "WHERE occurred_at < TIMESTAMP '2024-01-01 00:00:00'"),
+                    indexed("deleteThrough", "DELETE FROM change_events WHERE seq <= 100")));
+
+    private QueryPlanProbes() {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,286 @@
+package com.coderahul.employeemanagement.search;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over employee first name, last name and email local part.
+ * <p>
+ * Every token is padded as {@code ^token$} and split into trigrams, so {@code ^jo} marks a word
+ * prefix. The last query token is not end-padded, which makes partially typed names match.
+ * Candidates are scored by weighted trigram overlap normalised like a Jaccard coefficient, which
+ * also tolerates small typos in longer names. Only ids are kept per document; callers load the
+ * ranked rows themselves.
+ * <p>
+ * Scores are summed in scratch arrays with one counter per slot, borrowed from a pool of about one
+ * per core; a search that finds the pool empty allocates its own and the pool keeps at most that
+ * many, so a burst of (virtual) threads does not leave an index-sized array behind for each.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final int PREFIX_WEIGHT = 2;
+    private static final double MIN_MATCH_RATIO = 0.3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BlockingQueue<int[]> scratchScores =
+            new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private long[] idBySlot = new long[1024];
+    private short[] weightBySlot = new short[1024];
+    private int slotCount;
+    private int liveCount;
+
+    public void add(EmployeeDto employee) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(employee.id());
+            compactIfSparse();
+            Map<Long, Integer> trigrams = documentTrigrams(employee);
+            int slot = slotCount++;
+            ensureCapacity(slotCount);
+            idBySlot[slot] = employee.id();
+            int weight = 0;
+            for (Map.Entry<Long, Integer> trigram : trigrams.entrySet()) {
+                postings.computeIfAbsent(trigram.getKey(), k -> new IntList()).add(slot);
+                weight += trigram.getValue();
+            }
+            weightBySlot[slot] = (short) Math.min(weight, Short.MAX_VALUE);
+            slotById.put(employee.id(), slot);
+            liveCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long employeeId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(employeeId);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotById.clear();
+            idBySlot = new long[1024];
+            weightBySlot = new short[1024];
+            slotCount = 0;
+            liveCount = 0;
+            scratchScores.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching employees, best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        Map<Long, Integer> queryTrigrams = queryTrigrams(query);
+        if (queryTrigrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int queryWeight = queryTrigrams.values().stream().mapToInt(Integer::intValue).sum();
+        int minScore = Math.max(1, (int) Math.ceil(queryWeight * MIN_MATCH_RATIO));
+
+        lock.readLock().lock();
+        try {
+            int[] scores = scratchScores.poll();
+            if (scores == null || scores.length < slotCount) {
+                scores = new int[idBySlot.length];
+            }
+            IntList touched = new IntList();
+            for (Map.Entry<Long, Integer> trigram : queryTrigrams.entrySet()) {
+                IntList posting = postings.get(trigram.getKey());
+                if (posting == null) {
+                    continue;
+                }
+                int weight = trigram.getValue();
+                int[] slots = posting.values;
+                for (int i = 0, n = posting.size; i < n; i++) {
+                    int slot = slots[i];
+                    if (scores[slot] == 0) {
+                        touched.add(slot);
+                    }
+                    scores[slot] += weight;
+                }
+            }
+
+            PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1);
+            for (int i = 0; i < touched.size; i++) {
+                int slot = touched.values[i];
+                int score = scores[slot];
+                scores[slot] = 0;
+                if (score < minScore || idBySlot[slot] < 0) {
+                    continue;
+                }
+                double rank = (double) score / (queryWeight + weightBySlot[slot] - score);
+                if (best.size() < limit) {
+                    best.add(new Candidate(slot, rank));
+                } else if (rank > best.peek().rank) {
+                    best.poll();
+                    best.add(new Candidate(slot, rank));
+                }
+            }
+            // Every touched counter is back at zero; an undersized array is dropped on the next poll
+            scratchScores.offer(scores);
+
+            Candidate[] ranked = best.toArray(new Candidate[0]);
+            Arrays.sort(ranked, (a, b) -> Double.compare(b.rank, a.rank));
+            List<Long> ids = new ArrayList<>(ranked.length);
+            for (Candidate candidate : ranked) {
+                ids.add(idBySlot[candidate.slot]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long employeeId) {
+        Integer slot = slotById.remove(employeeId);
+        if (slot != null) {
+            // Posting entries are dropped lazily; a negative id marks the slot as dead.
+            idBySlot[slot] = -1;
+            liveCount--;
+        }
+    }
+
+    private void compactIfSparse() {
+        if (slotCount > 1024 && liveCount < slotCount / 2) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[slotCount];
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (idBySlot[slot] >= 0) {
+                remap[slot] = next;
+                idBySlot[next] = idBySlot[slot];
+                weightBySlot[next] = weightBySlot[slot];
+                slotById.put(idBySlot[next], next);
+                next++;
+            } else {
+                remap[slot] = -1;
+            }
+        }
+        postings.values().removeIf(posting -> {
+            int size = 0;
+            for (int i = 0; i < posting.size; i++) {
+                int mapped = remap[posting.values[i]];
+                if (mapped >= 0) {
+                    posting.values[size++] = mapped;
+                }
+            }
+            posting.size = size;
+            return size == 0;
+        });
+        slotCount = next;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > idBySlot.length) {
+            int newLength = Math.max(capacity, idBySlot.length * 2);
+            idBySlot = Arrays.copyOf(idBySlot, newLength);
+            weightBySlot = Arrays.copyOf(weightBySlot, newLength);
+        }
+    }
+
+    private static Map<Long, Integer> documentTrigrams(EmployeeDto employee) {
+        Map<Long, Integer> trigrams = new LinkedHashMap<>();
+        addTokens(trigrams, employee.firstName(), true);
+        addTokens(trigrams, employee.lastName(), true);
+        if (employee.email() != null) {
+            int at = employee.email().indexOf('@');
+            addTokens(trigrams, at >= 0 ? employee.email().substring(0, at) : employee.email(), true);
+        }
+        return trigrams;
+    }
+
+    private static Map<Long, Integer> queryTrigrams(String query) {
+        Map<Long, Integer> trigrams = new LinkedHashMap<>();
+        if (query == null) {
+            return trigrams;
+        }
+        String[] tokens = tokenize(query);
+        for (int i = 0; i < tokens.length; i++) {
+            addToken(trigrams, tokens[i], i < tokens.length - 1);
+        }
+        return trigrams;
+    }
+
+    private static void addTokens(Map<Long, Integer> trigrams, String text, boolean padEnd) {
+        if (text == null) {
+            return;
+        }
+        for (String token : tokenize(text)) {
+            addToken(trigrams, token, padEnd);
+        }
+    }
+
+    private static void addToken(Map<Long, Integer> trigrams, String token, boolean padEnd) {
+        if (token.length() < 2) {
+            return;
+        }
+        String padded = "^" + token + (padEnd ? "$" : "");
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            long key = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            trigrams.merge(key, i == 0 ? PREFIX_WEIGHT : 1, Math::max);
+        }
+    }
+
+    private static String[] tokenize(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    private record Candidate(int slot, double rank) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(rank, other.rank);
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
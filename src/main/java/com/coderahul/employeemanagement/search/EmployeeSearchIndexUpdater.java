@@ -0,0 +1,49 @@
+package com.coderahul.employeemanagement.search;
+
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class EmployeeSearchIndexUpdater {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchIndexUpdater.class);
+
+    private final EmployeeSearchIndex searchIndex;
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeSearchIndexUpdater(EmployeeSearchIndex searchIndex, EmployeeService employeeService) {
+        this.searchIndex = searchIndex;
+        this.employeeService = employeeService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        searchIndex.clear();
+        // Later changes arrive as events after the primary commits them
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            employeeService.streamAllEmployees(searchIndex::add);
+            return null;
+        });
+        log.info("Employee search index built with {} employees in {} ms",
+                searchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.after() != null) {
+            searchIndex.add(event.after());
+        } else {
+            searchIndex.remove(event.before().id());
+        }
+    }
+}
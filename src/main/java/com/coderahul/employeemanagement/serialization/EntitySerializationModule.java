@@ -0,0 +1,187 @@
+package com.coderahul.employeemanagement.serialization;
+
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the types that make up bulk responses: employees (entity and DTO)
+ * and departments with their employee lists. They write fields straight to the generator, with
+ * pre-encoded property names, instead of going through bean introspection and reflective getter
+ * calls per property. The output is the same as the annotation-driven serialization: same
+ * properties, same order, nulls included, dates as ISO strings, the department back-reference
+ * left out. Works for every Jackson format (JSON, Smile, CBOR). Deserialization is unchanged.
+ * <p>
+ * A new field on one of these types must be added here as well, or it will not be serialized.
+ */
+public class EntitySerializationModule extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializableString HIRE_DATE = new SerializedString("hireDate");
+    private static final SerializableString SALARY = new SerializedString("salary");
+    private static final SerializableString DEPARTMENT_ID = new SerializedString("departmentId");
+    private static final SerializableString EMPLOYMENT_STATUS = new SerializedString("employmentStatus");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString DEPARTMENT_NAME = new SerializedString("departmentName");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString EMPLOYEES = new SerializedString("employees");
+
+    public EntitySerializationModule() {
+        super("EntitySerializationModule");
+        addSerializer(EmployeeDto.class, new EmployeeDtoSerializer());
+        addSerializer(Employee.class, new EmployeeSerializer());
+        addSerializer(Department.class, new DepartmentSerializer());
+        addSerializer(DepartmentWithEmployeesDto.class, new DepartmentWithEmployeesDtoSerializer());
+    }
+
+    static class EmployeeDtoSerializer extends StdSerializer<EmployeeDto> {
+
+        EmployeeDtoSerializer() {
+            super(EmployeeDto.class);
+        }
+
+        @Override
+        public void serialize(EmployeeDto employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(employee);
+            writeNumber(gen, ID, employee.id());
+            writeString(gen, FIRST_NAME, employee.firstName());
+            writeString(gen, LAST_NAME, employee.lastName());
+            writeString(gen, EMAIL, employee.email());
+            writeString(gen, PHONE_NUMBER, employee.phoneNumber());
+            writeDate(gen, HIRE_DATE, employee.hireDate());
+            writeDecimal(gen, SALARY, employee.salary());
+            writeNumber(gen, DEPARTMENT_ID, employee.departmentId());
+            writeEnum(gen, EMPLOYMENT_STATUS, employee.employmentStatus());
+            gen.writeEndObject();
+        }
+    }
+
+    static class EmployeeSerializer extends StdSerializer<Employee> {
+
+        EmployeeSerializer() {
+            super(Employee.class);
+        }
+
+        @Override
+        public void serialize(Employee employee, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(employee);
+            writeNumber(gen, ID, employee.getId());
+            writeString(gen, FIRST_NAME, employee.getFirstName());
+            writeString(gen, LAST_NAME, employee.getLastName());
+            writeString(gen, EMAIL, employee.getEmail());
+            writeString(gen, PHONE_NUMBER, employee.getPhoneNumber());
+            writeDate(gen, HIRE_DATE, employee.getHireDate());
+            writeDecimal(gen, SALARY, employee.getSalary());
+            // department is the back-reference of Department.employees and is never serialized
+            writeEnum(gen, EMPLOYMENT_STATUS, employee.getEmploymentStatus());
+            writeNumber(gen, VERSION, employee.getVersion());
+            gen.writeEndObject();
+        }
+    }
+
+    static class DepartmentSerializer extends StdSerializer<Department> {
+
+        private final EmployeeSerializer employeeSerializer = new EmployeeSerializer();
+
+        DepartmentSerializer() {
+            super(Department.class);
+        }
+
+        @Override
+        public void serialize(Department department, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(department);
+            writeNumber(gen, ID, department.getId());
+            writeString(gen, DEPARTMENT_NAME, department.getDepartmentName());
+            writeString(gen, DESCRIPTION, department.getDescription());
+            gen.writeFieldName(EMPLOYEES);
+            List<Employee> employees = department.getEmployees();
+            if (employees == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(employees, employees.size());
+                for (Employee employee : employees) {
+                    employeeSerializer.serialize(employee, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            writeNumber(gen, VERSION, department.getVersion());
+            gen.writeEndObject();
+        }
+    }
+
+    static class DepartmentWithEmployeesDtoSerializer extends StdSerializer<DepartmentWithEmployeesDto> {
+
+        private final EmployeeDtoSerializer employeeSerializer = new EmployeeDtoSerializer();
+
+        DepartmentWithEmployeesDtoSerializer() {
+            super(DepartmentWithEmployeesDto.class);
+        }
+
+        @Override
+        public void serialize(DepartmentWithEmployeesDto department, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(department);
+            writeNumber(gen, ID, department.id());
+            writeString(gen, DEPARTMENT_NAME, department.departmentName());
+            writeString(gen, DESCRIPTION, department.description());
+            gen.writeFieldName(EMPLOYEES);
+            List<EmployeeDto> employees = department.employees();
+            if (employees == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(employees, employees.size());
+                for (EmployeeDto employee : employees) {
+                    employeeSerializer.serialize(employee, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private static void writeDate(JsonGenerator gen, SerializableString name, LocalDate value) throws IOException {
+        gen.writeFieldName(name);
+        // LocalDate.toString is ISO-8601 (yyyy-MM-dd), what JavaTimeModule writes without timestamps
+        gen.writeString(value != null ? value.toString() : null);
+    }
+
+    private static void writeDecimal(JsonGenerator gen, SerializableString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private static void writeEnum(JsonGenerator gen, SerializableString name, Enum<?> value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value != null ? value.name() : null);
+    }
+}
@@ -0,0 +1,221 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.changefeed.OutboxWatermark;
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.dto.ChangeBatch;
+import com.coderahul.employeemanagement.dto.ChangeEventDto;
+import com.coderahul.employeemanagement.exception.ChangesPrunedException;
+import com.coderahul.employeemanagement.repository.ChangeEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads the {@code change_events} outbox as a feed ordered by seq, up to the {@link OutboxWatermark}
+ * so that a seq is only handed out once no lower one can still commit. Consumers page with
+ * {@code since}, wait for new changes with a long poll, or subscribe to server-sent events. Waiting
+ * consumers are served by one dispatcher thread that wakes up after every transaction that wrote
+ * changes completes. Changes older than {@code app.changes.retention} are pruned; a consumer that asks for a
+ * pruned range gets {@link ChangesPrunedException} and has to resync.
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
+    private final ChangeEventRepository changeEventRepository;
+    private final OutboxWatermark watermark;
+    private final Duration retention;
+    private final AtomicLong prunedThrough = new AtomicLong();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ChangeFeedService(ChangeEventRepository changeEventRepository,
+                             OutboxWatermark watermark,
+                             @Value("${app.changes.retention:P7D}") Duration retention) {
+        this.changeEventRepository = changeEventRepository;
+        this.watermark = watermark;
+        this.retention = retention;
+    }
+
+    public ChangeBatch getChanges(long since, int limit) {
+        if (since < prunedThrough.get()) {
+            throw new ChangesPrunedException("Changes up to seq " + prunedThrough.get() + " have been pruned; " +
+                    "resync and continue from GET /api/changes/head");
+        }
+        long through = watermark.visibleThrough();
+        if (through <= since) {
+            return ChangeBatch.empty(since);
+        }
+        // The watermark was read from the primary; a lagging replica could skip rows below it
+        List<ChangeEventDto> changes = ReplicaRoutingDataSource.onPrimary(() ->
+                changeEventRepository.findBySeqBetweenOrderBySeqAsc(since + 1, through, Limit.of(limit + 1)))
+                .stream().map(ChangeEventDto::from).toList();
+        if (changes.isEmpty()) {
+            return ChangeBatch.empty(since);
+        }
+        boolean hasMore = changes.size() > limit;
+        List<ChangeEventDto> page = hasMore ? changes.subList(0, limit) : changes;
+        return new ChangeBatch(page, page.get(page.size() - 1).seq(), hasMore);
+    }
+
+    /**
+     * The seq of the latest change, 0 if there is none. A consumer that resyncs from the REST
+     * endpoints reads this first and then follows the feed from it.
+     */
+    public long getHead() {
+        long through = watermark.visibleThrough();
+        Long head = ReplicaRoutingDataSource.onPrimary(changeEventRepository::findMaxSeq);
+        return head != null ? Math.min(head, through) : 0;
+    }
+
+    /**
+     * Like {@link #getChanges}, but when there is nothing after {@code since} the result is held
+     * until a change commits or {@code wait} has passed, whichever comes first.
+     */
+    public DeferredResult<ChangeBatch> awaitChanges(long since, int limit, Duration wait) {
+        ChangeBatch batch = getChanges(since, limit);
+        DeferredResult<ChangeBatch> result = new DeferredResult<>(wait.toMillis(), ChangeBatch.empty(since));
+        if (!batch.changes().isEmpty() || wait.isZero()) {
+            result.setResult(batch);
+            return result;
+        }
+        Waiter waiter = new Waiter(since, limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // A change may have committed between the read above and registering the waiter
+        scheduleDispatch();
+        return result;
+    }
+
+    /**
+     * Sends every change after {@code since} to {@code emitter}, in batches, and keeps sending
+     * new ones as they commit until the emitter completes.
+     */
+    public void subscribe(long since, SseEmitter emitter) {
+        getChanges(since, 1);
+        Subscriber subscriber = new Subscriber(emitter, new AtomicLong(since));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        scheduleDispatch();
+    }
+
+    /**
+     * Called by the outbox writer after a transaction that wrote changes has committed.
+     */
+    public void changesCommitted() {
+        if (!waiters.isEmpty() || !subscribers.isEmpty()) {
+            scheduleDispatch();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initPrunedThrough() {
+        Long first = changeEventRepository.findMinSeq();
+        prunedThrough.set(first != null ? first - 1 : 0);
+    }
+
+    /**
+     * Deletes changes older than the retention period. The latest change is always kept, so the
+     * start of the feed is known again after a restart.
+     */
+    @Scheduled(fixedDelayString = "${app.changes.prune-interval:PT1H}")
+    @Transactional
+    public void pruneChanges() {
+        Long through = changeEventRepository.findMaxSeqOccurredBefore(LocalDateTime.now().minus(retention));
+        Long head = changeEventRepository.findMaxSeq();
+        if (through == null || head == null) {
+            return;
+        }
+        long pruneThrough = Math.min(through, head - 1);
+        if (pruneThrough <= prunedThrough.get()) {
+            return;
+        }
+        prunedThrough.set(pruneThrough);
+        int deleted = changeEventRepository.deleteThrough(pruneThrough);
+        log.info("Pruned {} change events up to seq {}", deleted, pruneThrough);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void scheduleDispatch() {
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    // Runs on the dispatcher thread. Changes committed while it runs schedule another pass.
+    private void dispatch() {
+        dispatchPending.set(false);
+        for (Waiter waiter : waiters) {
+            try {
+                ChangeBatch batch = getChanges(waiter.since(), waiter.limit());
+                if (!batch.changes().isEmpty()) {
+                    waiter.result().setResult(batch);
+                }
+            } catch (RuntimeException e) {
+                waiter.result().setErrorResult(e);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            try {
+                ChangeBatch batch;
+                do {
+                    batch = getChanges(subscriber.cursor().get(), DEFAULT_LIMIT);
+                    if (batch.changes().isEmpty()) {
+                        break;
+                    }
+                    subscriber.emitter().send(SseEmitter.event()
+                            .id(Long.toString(batch.nextSince()))
+                            .name("changes")
+                            .data(batch));
+                    subscriber.cursor().set(batch.nextSince());
+                } while (batch.hasMore());
+            } catch (IOException | RuntimeException e) {
+                subscribers.remove(subscriber);
+                subscriber.emitter().completeWithError(e);
+            }
+        }
+    }
+
+    private record Waiter(long since, int limit, DeferredResult<ChangeBatch> result) {
+    }
+
+    private record Subscriber(SseEmitter emitter, AtomicLong cursor) {
+    }
+}
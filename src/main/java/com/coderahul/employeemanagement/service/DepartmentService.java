@@ -1,52 +1,153 @@
 package com.coderahul.employeemanagement.service;
 
+import com.coderahul.employeemanagement.concurrency.Coalesced;
+import com.coderahul.employeemanagement.config.CacheConfig;
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.directory.OrgDirectory;
+import com.coderahul.employeemanagement.dto.DepartmentBatchGetResult;
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentEmployeeRow;
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
 import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.event.DepartmentChangedEvent;
+import com.coderahul.employeemanagement.exception.StaleVersionException;
 import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class DepartmentService {
 
+    private static final Logger log = LoggerFactory.getLogger(DepartmentService.class);
+
     private final DepartmentRepository departmentRepository;
+    private final OrgDirectory orgDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache departmentCache;
+    private final Cache departmentIdsByName;
 
     @Autowired
-    public DepartmentService(DepartmentRepository departmentRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository,
+                             OrgDirectory orgDirectory,
+                             ApplicationEventPublisher eventPublisher,
+                             CacheManager cacheManager) {
         this.departmentRepository = departmentRepository;
+        this.orgDirectory = orgDirectory;
+        this.eventPublisher = eventPublisher;
+        this.departmentCache = cacheManager.getCache(CacheConfig.DEPARTMENTS);
+        this.departmentIdsByName = cacheManager.getCache(CacheConfig.DEPARTMENT_IDS_BY_NAME);
     }
 
-    public List<Department> getAllDepartments() {
-        return departmentRepository.findAll();
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> getAllDepartments() {
+        return departmentRepository.findAllDtos();
     }
 
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentById(Long id) {
-        return departmentRepository.findById(id);
+        // Cached until the next change, so never from a lagging replica. Cached instances outlive
+        // the session, so load the employee list they serialize now.
+        return ReplicaRoutingDataSource.onPrimary(() -> {
+            Optional<Department> department = departmentRepository.findById(id);
+            department.ifPresent(found -> Hibernate.initialize(found.getEmployees()));
+            return department;
+        });
     }
 
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentByName(String name) {
-        return departmentRepository.findByDepartmentName(name);
+        Long id = departmentIdsByName.get(name, Long.class);
+        if (id != null) {
+            Department cached = departmentCache.get(id, Department.class);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<Department> department = ReplicaRoutingDataSource.onPrimary(() -> {
+            Optional<Department> found = departmentRepository.findByDepartmentName(name);
+            found.ifPresent(loaded -> Hibernate.initialize(loaded.getEmployees()));
+            return found;
+        });
+        department.ifPresent(found -> {
+            departmentCache.put(found.getId(), found);
+            departmentIdsByName.put(name, found.getId());
+        });
+        return department;
+    }
+
+    /**
+     * Looks departments up by id with one {@code IN} query per
+     * {@value EmployeeService#BATCH_GET_CHUNK_SIZE} ids.
+     */
+    @Transactional(readOnly = true)
+    public DepartmentBatchGetResult getDepartmentsBatch(List<Long> ids) {
+        List<Long> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+        Map<Long, DepartmentDto> byId = new HashMap<>();
+        for (int from = 0; from < uniqueIds.size(); from += EmployeeService.BATCH_GET_CHUNK_SIZE) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(from + EmployeeService.BATCH_GET_CHUNK_SIZE, uniqueIds.size()));
+            departmentRepository.findDtosByIdIn(chunk).forEach(department -> byId.put(department.id(), department));
+        }
+        List<DepartmentDto> found = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            DepartmentDto department = byId.get(id);
+            if (department != null) {
+                found.add(department);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new DepartmentBatchGetResult(found, missingIds);
     }
 
     public Department createDepartment(Department department) {
         if (departmentRepository.existsByDepartmentName(department.getDepartmentName())) {
             throw new IllegalArgumentException("Department with name " + department.getDepartmentName() + " already exists");
         }
-        return departmentRepository.save(department);
+        department.setVersion(null);
+        Department savedDepartment = departmentRepository.save(department);
+        eventPublisher.publishEvent(DepartmentChangedEvent.created(DepartmentDto.from(savedDepartment)));
+        return savedDepartment;
     }
 
     public Department updateDepartment(Long id, Department departmentDetails) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+        if (departmentDetails.getVersion() != null && !departmentDetails.getVersion().equals(department.getVersion())) {
+            throw new StaleVersionException(Department.class, id);
+        }
+        DepartmentDto before = DepartmentDto.from(department);
 
         department.setDepartmentName(departmentDetails.getDepartmentName());
         department.setDescription(departmentDetails.getDescription());
 
-        return departmentRepository.save(department);
+        Department savedDepartment = departmentRepository.save(department);
+        // The response serializes the employee list after the session has closed
+        Hibernate.initialize(savedDepartment.getEmployees());
+        eventPublisher.publishEvent(DepartmentChangedEvent.updated(before, DepartmentDto.from(savedDepartment)));
+        return savedDepartment;
     }
 
     public void deleteDepartment(Long id) {
@@ -57,14 +158,38 @@ public class DepartmentService {
             throw new IllegalStateException("Cannot delete department with existing employees");
         }
         
+        DepartmentDto before = DepartmentDto.from(department);
         departmentRepository.delete(department);
+        eventPublisher.publishEvent(DepartmentChangedEvent.deleted(before));
     }
 
-    public List<Department> searchDepartmentsByName(String name) {
-        return departmentRepository.findByDepartmentNameContainingIgnoreCase(name);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> searchDepartmentsByName(String name) {
+        return departmentRepository.findDtosByDepartmentNameContainingIgnoreCase(name);
     }
 
-    public List<Department> getAllDepartmentsWithEmployees() {
-        return departmentRepository.findAllWithEmployees();
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildDirectory() {
+        long start = System.currentTimeMillis();
+        // Refreshes read the primary; a start from a lagging replica could miss changes for good
+        orgDirectory.rebuild(sink -> ReplicaRoutingDataSource.onPrimary(this::getAllDepartmentsWithEmployees).forEach(sink));
+        log.info("Org directory of {} departments ({} bytes) rebuilt in {} ms", orgDirectory.view().departmentCount(),
+                orgDirectory.view().length(), System.currentTimeMillis() - start);
+    }
+
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<DepartmentWithEmployeesDto> getAllDepartmentsWithEmployees() {
+        Map<Long, DepartmentWithEmployeesDto> departments = new LinkedHashMap<>();
+        for (DepartmentEmployeeRow row : departmentRepository.findAllWithEmployeeRows()) {
+            DepartmentWithEmployeesDto department = departments.computeIfAbsent(row.departmentId(),
+                    id -> new DepartmentWithEmployeesDto(id, row.departmentName(), row.description(), new ArrayList<>()));
+            if (row.employeeId() != null) {
+                department.employees().add(row.employee());
+            }
+        }
+        return new ArrayList<>(departments.values());
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentStats;
+import com.coderahul.employeemanagement.dto.SalaryDistribution;
+import com.coderahul.employeemanagement.dto.SalaryHistogram;
+import com.coderahul.employeemanagement.dto.StatsConsistencyReport;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.stats.DepartmentStatsStore;
+import com.coderahul.employeemanagement.stats.DepartmentStatsStore.Snapshot;
+import com.coderahul.employeemanagement.stats.SalaryDistributionStore;
+import com.coderahul.employeemanagement.stats.SalarySketch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class DepartmentStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(DepartmentStatsService.class);
+
+    private final DepartmentStatsStore statsStore;
+    private final SalaryDistributionStore distributionStore;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+
+    @Autowired
+    public DepartmentStatsService(DepartmentStatsStore statsStore,
+                                  SalaryDistributionStore distributionStore,
+                                  DepartmentRepository departmentRepository,
+                                  EmployeeRepository employeeRepository) {
+        this.statsStore = statsStore;
+        this.distributionStore = distributionStore;
+        this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    public List<DepartmentStats> getAllDepartmentStats() {
+        return departmentRepository.findAllDtos().stream()
+                .map(department -> toStats(department, statsStore.get(department.id())))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        // The stores then follow the primary's commits, so they must start from the primary's rows
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            statsStore.rebuild(stats -> distributionStore.rebuild(distributions -> {
+                try (Stream<Object[]> rows = employeeRepository.streamSalaryRows()) {
+                    rows.forEach(row -> {
+                        Long departmentId = (Long) row[0];
+                        BigDecimal salary = (BigDecimal) row[2];
+                        if (departmentId != null) {
+                            stats.add(departmentId, salary);
+                        }
+                        distributions.add(departmentId, (EmploymentStatus) row[1], salary);
+                    });
+                }
+            }));
+            return null;
+        });
+        log.info("Department statistics rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+
+    public Optional<SalaryDistribution> getDepartmentSalaryDistribution(Long departmentId, List<EmploymentStatus> statuses,
+                                                                        double[] percentiles, int buckets) {
+        if (!departmentRepository.existsById(departmentId)) {
+            return Optional.empty();
+        }
+        SalarySketch sketch = distributionStore.merged(departmentId, statuses);
+        // The statistics store holds exact extremes, but per department only, not per status
+        if (statuses.isEmpty() || statuses.containsAll(EnumSet.allOf(EmploymentStatus.class))) {
+            Snapshot snapshot = statsStore.get(departmentId);
+            return Optional.of(toDistribution(departmentId, sketch, snapshot.minSalary(), snapshot.maxSalary(),
+                    percentiles, buckets));
+        }
+        return Optional.of(toDistribution(departmentId, sketch, null, null, percentiles, buckets));
+    }
+
+    public SalaryDistribution getCompanySalaryDistribution(List<EmploymentStatus> statuses, double[] percentiles, int buckets) {
+        return toDistribution(null, distributionStore.merged(null, statuses), null, null, percentiles, buckets);
+    }
+
+    public StatsConsistencyReport verify() {
+        // The stores follow the primary's commits; a lagging replica would report false drift
+        return ReplicaRoutingDataSource.onPrimary(this::compareWithDatabase);
+    }
+
+    private StatsConsistencyReport compareWithDatabase() {
+        Map<Long, Object[]> expected = new HashMap<>();
+        for (Object[] row : employeeRepository.aggregateSalariesByDepartment()) {
+            expected.put((Long) row[0], row);
+        }
+        List<String> mismatches = new ArrayList<>();
+        List<Long> departmentIds = departmentRepository.findAllDtos().stream().map(DepartmentDto::id).toList();
+        for (Long departmentId : departmentIds) {
+            Snapshot actual = statsStore.get(departmentId);
+            Object[] row = expected.get(departmentId);
+            long count = row == null ? 0 : (Long) row[1];
+            BigDecimal total = row == null || row[2] == null ? BigDecimal.ZERO : (BigDecimal) row[2];
+            BigDecimal min = row == null ? null : (BigDecimal) row[3];
+            BigDecimal max = row == null ? null : (BigDecimal) row[4];
+            if (actual.employeeCount() != count) {
+                mismatches.add("department " + departmentId + ": count " + actual.employeeCount() + " != " + count);
+            }
+            if (actual.totalSalary().compareTo(total) != 0) {
+                mismatches.add("department " + departmentId + ": total salary " + actual.totalSalary() + " != " + total);
+            }
+            if (!sameAmount(actual.minSalary(), min)) {
+                mismatches.add("department " + departmentId + ": min salary " + actual.minSalary() + " != " + min);
+            }
+            if (!sameAmount(actual.maxSalary(), max)) {
+                mismatches.add("department " + departmentId + ": max salary " + actual.maxSalary() + " != " + max);
+            }
+        }
+        return new StatsConsistencyReport(mismatches.isEmpty(), departmentIds.size(), mismatches);
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null || b == null ? Objects.equals(a, b) : a.compareTo(b) == 0;
+    }
+
+    /**
+     * Reports {@code exactMin} and {@code exactMax} when known, otherwise the edges of the sketch's
+     * outermost buckets, which enclose the true extremes.
+     */
+    private static SalaryDistribution toDistribution(Long departmentId, SalarySketch sketch, BigDecimal exactMin,
+                                                     BigDecimal exactMax, double[] percentiles, int buckets) {
+        if (sketch.count() == 0) {
+            return new SalaryDistribution(departmentId, 0, null, null, null, Map.of(), List.of(), SalarySketch.RELATIVE_ACCURACY);
+        }
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (double percentile : percentiles) {
+            values.put("p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                    toAmount(sketch.quantile(percentile / 100)));
+        }
+        BigDecimal minSalary = exactMin != null ? exactMin : toAmount(sketch.lowerBound());
+        BigDecimal maxSalary = exactMax != null ? exactMax : toAmount(sketch.upperBound());
+        double min = minSalary.doubleValue();
+        double max = maxSalary.doubleValue();
+        long[] counts = sketch.histogram(min, max, buckets);
+        double width = (max - min) / buckets;
+        List<SalaryHistogram.Bin> histogram = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            histogram.add(new SalaryHistogram.Bin(toAmount(min + i * width), toAmount(min + (i + 1) * width), counts[i]));
+        }
+        BigDecimal average = BigDecimal.valueOf(sketch.totalCents(), 2)
+                .divide(BigDecimal.valueOf(sketch.count()), 2, RoundingMode.HALF_UP);
+        return new SalaryDistribution(departmentId, sketch.count(), average, minSalary, maxSalary, values,
+                histogram, SalarySketch.RELATIVE_ACCURACY);
+    }
+
+    private static BigDecimal toAmount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static DepartmentStats toStats(DepartmentDto department, Snapshot snapshot) {
+        return new DepartmentStats(department.id(), department.departmentName(), snapshot.employeeCount(),
+                snapshot.totalSalary(), snapshot.averageSalary(), snapshot.minSalary(), snapshot.maxSalary());
+    }
+}
\ No newline at end of file
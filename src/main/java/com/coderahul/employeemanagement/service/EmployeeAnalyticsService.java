@@ -0,0 +1,63 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.analytics.EmployeeColumnStore;
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.dto.AnalyticsFilter;
+import com.coderahul.employeemanagement.dto.DepartmentAggregate;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.SalaryHistogram;
+import com.coderahul.employeemanagement.dto.SalaryPercentiles;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class EmployeeAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAnalyticsService.class);
+
+    private final EmployeeColumnStore columnStore;
+    private final EmployeeRepository employeeRepository;
+
+    @Autowired
+    public EmployeeAnalyticsService(EmployeeColumnStore columnStore, EmployeeRepository employeeRepository) {
+        this.columnStore = columnStore;
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        // Later changes arrive as events after the primary commits them
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            columnStore.rebuild(sink -> {
+                try (Stream<EmployeeDto> employees = employeeRepository.streamAllOrderedById()) {
+                    employees.forEach(sink);
+                }
+            });
+            return null;
+        });
+        log.info("Analytics snapshot of {} employees rebuilt in {} ms", columnStore.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<DepartmentAggregate> groupByDepartment(AnalyticsFilter filter) {
+        return columnStore.groupByDepartment(filter);
+    }
+
+    public SalaryPercentiles getSalaryPercentiles(AnalyticsFilter filter, double[] percentiles) {
+        return columnStore.salaryPercentiles(filter, percentiles);
+    }
+
+    public SalaryHistogram getSalaryHistogram(AnalyticsFilter filter, int buckets) {
+        return columnStore.salaryHistogram(filter, buckets);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.EmployeeBatchRequest;
+import com.coderahul.employeemanagement.dto.EmployeeBatchRequest.Operation;
+import com.coderahul.employeemanagement.dto.EmployeeBatchRequest.OperationType;
+import com.coderahul.employeemanagement.dto.EmployeeBatchResult;
+import com.coderahul.employeemanagement.dto.EmployeeBatchResult.OperationResult;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a list of employee creates, updates, terminations and deletes, in request order, one
+ * transaction per chunk of {@code app.batch.chunk-size} operations. A chunk loads the employees it
+ * touches with one {@code IN} query and checks emails and departments with one query each; the
+ * writes go through JPA and are flushed at commit in JDBC batches. Each operation gets the checks
+ * of its single-item endpoint and its own result; a rejected operation does not stop the others.
+ * A chunk that fails to commit fails all of its accepted operations and leaves earlier chunks
+ * committed, like the CSV import.
+ */
+@Service
+public class EmployeeBatchService {
+
+    public static final int MAX_OPERATIONS = 10_000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @Autowired
+    public EmployeeBatchService(EmployeeRepository employeeRepository,
+                                DepartmentRepository departmentRepository,
+                                TransactionTemplate transactionTemplate,
+                                Validator validator,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.batch.chunk-size:500}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public EmployeeBatchResult apply(EmployeeBatchRequest request) {
+        if (request == null || request.operations() == null || request.operations().isEmpty()) {
+            throw new IllegalArgumentException("operations must not be empty");
+        }
+        List<Operation> operations = request.operations();
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_OPERATIONS + " operations per request");
+        }
+        OperationResult[] results = new OperationResult[operations.size()];
+        Set<Long> seenIds = new HashSet<>();
+        for (int from = 0; from < operations.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, operations.size());
+            applyChunk(operations, from, to, seenIds, results);
+        }
+        int succeeded = 0;
+        for (OperationResult result : results) {
+            if (result.error() == null) {
+                succeeded++;
+            }
+        }
+        return new EmployeeBatchResult(results.length, succeeded, results.length - succeeded, List.of(results));
+    }
+
+    private void applyChunk(List<Operation> operations, int from, int to, Set<Long> seenIds, OperationResult[] results) {
+        List<Integer> pending = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            String problem = check(operations.get(index), seenIds);
+            if (problem != null) {
+                results[index] = failed(index, operations.get(index), HttpStatus.BAD_REQUEST, problem);
+            } else {
+                pending.add(index);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Integer, Employee> applied = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                applied.clear();
+                Chunk chunk = new Chunk(operations, pending);
+                for (int index : pending) {
+                    Operation operation = operations.get(index);
+                    OperationResult rejected = chunk.apply(index, operation);
+                    if (rejected != null) {
+                        results[index] = rejected;
+                    } else {
+                        applied.put(index, chunk.employee(index));
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            HttpStatus status = e instanceof ConcurrencyFailureException || e instanceof DataIntegrityViolationException
+                    ? HttpStatus.CONFLICT : HttpStatus.INTERNAL_SERVER_ERROR;
+            for (int index : applied.keySet()) {
+                results[index] = failed(index, operations.get(index), status,
+                        "Chunk rolled back: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        // Versions are final once the chunk has been flushed
+        applied.forEach((index, employee) -> {
+            Operation operation = operations.get(index);
+            HttpStatus status = switch (operation.op()) {
+                case CREATE -> HttpStatus.CREATED;
+                case DELETE -> HttpStatus.NO_CONTENT;
+                default -> HttpStatus.OK;
+            };
+            results[index] = new OperationResult(index, operation.op(), status.value(), employee.getId(),
+                    operation.op() == OperationType.DELETE ? null : employee.getVersion(), null);
+        });
+    }
+
+    /**
+     * Checks that need no database access. An employee may only appear in one operation per
+     * request, so every operation sees the state from before the request.
+     */
+    private String check(Operation operation, Set<Long> seenIds) {
+        if (operation == null || operation.op() == null) {
+            return "op is required (CREATE, UPDATE, TERMINATE or DELETE)";
+        }
+        if (operation.op() != OperationType.CREATE) {
+            if (operation.id() == null) {
+                return "id is required for " + operation.op();
+            }
+            if (!seenIds.add(operation.id())) {
+                return "Employee " + operation.id() + " appears in more than one operation";
+            }
+        }
+        if (operation.op() == OperationType.CREATE || operation.op() == OperationType.UPDATE) {
+            if (operation.employee() == null) {
+                return "employee is required for " + operation.op();
+            }
+            Set<ConstraintViolation<Employee>> violations = validator.validate(operation.employee());
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+        }
+        return null;
+    }
+
+    private static OperationResult failed(int index, Operation operation, HttpStatus status, String error) {
+        return new OperationResult(index, operation != null ? operation.op() : null, status.value(),
+                operation != null ? operation.id() : null, null, error);
+    }
+
+    /**
+     * One chunk's operations inside its transaction, with everything they reference loaded up front.
+     */
+    private class Chunk {
+
+        private final Map<Long, Employee> employees;
+        private final Set<String> takenEmails;
+        private final Set<Long> departments;
+        private final Map<Integer, Employee> touched = new HashMap<>();
+
+        Chunk(List<Operation> operations, List<Integer> indexes) {
+            List<Operation> chunk = indexes.stream().map(operations::get).toList();
+            Set<Long> ids = chunk.stream()
+                    .filter(operation -> operation.op() != OperationType.CREATE)
+                    .map(Operation::id)
+                    .collect(Collectors.toSet());
+            employees = ids.isEmpty() ? Map.of() : employeeRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity()));
+            Set<String> emails = chunk.stream()
+                    .map(Operation::employee)
+                    .filter(Objects::nonNull)
+                    .map(Employee::getEmail)
+                    .collect(Collectors.toSet());
+            takenEmails = emails.isEmpty() ? new HashSet<>() : new HashSet<>(employeeRepository.findExistingEmails(emails));
+            Set<Long> departmentIds = chunk.stream()
+                    .map(Operation::employee)
+                    .filter(Objects::nonNull)
+                    .map(Employee::getDepartment)
+                    .filter(Objects::nonNull)
+                    .map(Department::getId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            departments = departmentIds.isEmpty() ? Set.of() : new HashSet<>(departmentRepository.findExistingIds(departmentIds));
+        }
+
+        Employee employee(int index) {
+            return touched.get(index);
+        }
+
+        OperationResult apply(int index, Operation operation) {
+            if (operation.op() == OperationType.CREATE) {
+                return create(index, operation);
+            }
+            Employee employee = employees.get(operation.id());
+            if (employee == null) {
+                return failed(index, operation, HttpStatus.NOT_FOUND, "Employee not found with id: " + operation.id());
+            }
+            if (operation.version() != null && !operation.version().equals(employee.getVersion())) {
+                return failed(index, operation, HttpStatus.CONFLICT,
+                        "Employee " + operation.id() + " is at version " + employee.getVersion());
+            }
+            EmployeeDto before = EmployeeDto.from(employee);
+            switch (operation.op()) {
+                case UPDATE -> {
+                    OperationResult rejected = update(index, operation, employee);
+                    if (rejected != null) {
+                        return rejected;
+                    }
+                    eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeDto.from(employee)));
+                }
+                case TERMINATE -> {
+                    employee.setEmploymentStatus(EmploymentStatus.TERMINATED);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeDto.from(employee)));
+                }
+                case DELETE -> {
+                    employeeRepository.delete(employee);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.deleted(before));
+                }
+                default -> throw new IllegalStateException("Unexpected operation " + operation.op());
+            }
+            touched.put(index, employee);
+            return null;
+        }
+
+        private OperationResult create(int index, Operation operation) {
+            Employee employee = operation.employee();
+            OperationResult rejected = resolveDepartment(index, operation, employee);
+            if (rejected == null) {
+                rejected = claimEmail(index, operation, employee.getEmail());
+            }
+            if (rejected != null) {
+                return rejected;
+            }
+            employee.setId(null);
+            employee.setVersion(null);
+            // Persisting only assigns the id; the INSERT is batched at flush
+            Employee saved = employeeRepository.save(employee);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeDto.from(saved)));
+            touched.put(index, saved);
+            return null;
+        }
+
+        private OperationResult update(int index, Operation operation, Employee employee) {
+            Employee details = operation.employee();
+            OperationResult rejected = resolveDepartment(index, operation, details);
+            if (rejected == null && !details.getEmail().equals(employee.getEmail())) {
+                rejected = claimEmail(index, operation, details.getEmail());
+            }
+            if (rejected != null) {
+                return rejected;
+            }
+            employee.setFirstName(details.getFirstName());
+            employee.setLastName(details.getLastName());
+            employee.setEmail(details.getEmail());
+            employee.setPhoneNumber(details.getPhoneNumber());
+            employee.setSalary(details.getSalary());
+            employee.setDepartment(details.getDepartment());
+            employee.setEmploymentStatus(details.getEmploymentStatus());
+            return null;
+        }
+
+        // An email taken before the request, or claimed by an earlier operation, is a conflict
+        private OperationResult claimEmail(int index, Operation operation, String email) {
+            if (!takenEmails.add(email)) {
+                return failed(index, operation, HttpStatus.CONFLICT, "Employee with email " + email + " already exists");
+            }
+            return null;
+        }
+
+        private OperationResult resolveDepartment(int index, Operation operation, Employee employee) {
+            Department department = employee.getDepartment();
+            if (department == null || department.getId() == null) {
+                employee.setDepartment(null);
+                return null;
+            }
+            if (!departments.contains(department.getId())) {
+                return failed(index, operation, HttpStatus.BAD_REQUEST, "Department not found with id: " + department.getId());
+            }
+            employee.setDepartment(departmentRepository.getReferenceById(department.getId()));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeImportRow;
+import com.coderahul.employeemanagement.dto.ImportResult;
+import com.coderahul.employeemanagement.dto.ImportResult.RowError;
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming CSV/NDJSON importer. Rows are validated against the Bean Validation constraints on
+ * {@link Employee}, checked for duplicate emails with one set-based lookup per chunk and inserted
+ * with JDBC batches, one transaction per chunk. A failing chunk does not roll back earlier ones.
+ * Ids are reserved from the employee sequence in the same blocks Hibernate uses, so imported rows
+ * and rows saved through JPA never collide.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO employees " +
+            "(id, first_name, last_name, email, phone_number, hire_date, salary, department_id, employment_status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT nextval('" + Employee.ID_SEQUENCE + "')";
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @Autowired
+    public EmployeeImportService(EmployeeRepository employeeRepository,
+                                 DepartmentRepository departmentRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.import.chunk-size:1000}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportResult importCsv(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = parseCsvLine(header);
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("firstname", "lastname", "email", "hiredate")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column " + required);
+            }
+        }
+
+        ImportRun run = new ImportRun();
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                List<String> fields = parseCsvLine(line);
+                run.add(lineNumber, new EmployeeImportRow(
+                        field(fields, columns, "firstname"),
+                        field(fields, columns, "lastname"),
+                        field(fields, columns, "email"),
+                        field(fields, columns, "phonenumber"),
+                        parse(field(fields, columns, "hiredate"), LocalDate::parse),
+                        parse(field(fields, columns, "salary"), BigDecimal::new),
+                        parse(field(fields, columns, "departmentid"), Long::valueOf),
+                        parse(field(fields, columns, "employmentstatus"),
+                                value -> EmploymentStatus.valueOf(value.toUpperCase(Locale.ROOT)))));
+            } catch (RuntimeException e) {
+                run.rejectUnparseable(lineNumber, "Unparseable row: " + e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    public ImportResult importNdjson(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportRun run = new ImportRun();
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.add(lineNumber, objectMapper.readValue(line, EmployeeImportRow.class));
+            } catch (JsonProcessingException e) {
+                run.rejectUnparseable(lineNumber, "Unparseable row: " + e.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    private final class ImportRun {
+
+        private final List<PendingRow> pending = new ArrayList<>(chunkSize);
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+
+        void add(long line, EmployeeImportRow row) {
+            totalRows++;
+            Employee employee = row.toEmployee();
+            Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+            if (!violations.isEmpty()) {
+                reject(line, row.email(), violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (!seenEmails.add(employee.getEmail())) {
+                reject(line, employee.getEmail(), "Duplicate email in import");
+                return;
+            }
+            pending.add(new PendingRow(line, employee));
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void rejectUnparseable(long line, String message) {
+            totalRows++;
+            reject(line, null, message);
+        }
+
+        void reject(long line, String email, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, email, message));
+            }
+        }
+
+        ImportResult finish() {
+            flush();
+            return new ImportResult(totalRows, imported, failed, failed > errors.size(), errors);
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRow> chunk = new ArrayList<>(pending);
+            pending.clear();
+
+            Set<String> existingEmails = new HashSet<>(employeeRepository.findExistingEmails(
+                    chunk.stream().map(row -> row.employee().getEmail()).toList()));
+            Set<Long> departmentIds = chunk.stream()
+                    .map(row -> row.employee().getDepartment())
+                    .filter(Objects::nonNull)
+                    .map(Department::getId)
+                    .collect(Collectors.toSet());
+            Set<Long> existingDepartments = departmentIds.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(departmentRepository.findExistingIds(departmentIds));
+
+            List<Employee> accepted = new ArrayList<>(chunk.size());
+            for (PendingRow row : chunk) {
+                Employee employee = row.employee();
+                if (existingEmails.contains(employee.getEmail())) {
+                    rejectValidated(row, "Employee with email " + employee.getEmail() + " already exists");
+                } else if (employee.getDepartment() != null && !existingDepartments.contains(employee.getDepartment().getId())) {
+                    rejectValidated(row, "Department not found with id: " + employee.getDepartment().getId());
+                } else {
+                    accepted.add(employee);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    assignIds(accepted);
+                    jdbcTemplate.batchUpdate(INSERT_SQL, accepted, accepted.size(), (ps, employee) -> {
+                        ps.setLong(1, employee.getId());
+                        ps.setString(2, employee.getFirstName());
+                        ps.setString(3, employee.getLastName());
+                        ps.setString(4, employee.getEmail());
+                        ps.setString(5, employee.getPhoneNumber());
+                        ps.setObject(6, employee.getHireDate());
+                        ps.setBigDecimal(7, employee.getSalary());
+                        ps.setObject(8, employee.getDepartment() != null ? employee.getDepartment().getId() : null, Types.BIGINT);
+                        ps.setString(9, employee.getEmploymentStatus().name());
+                    });
+                    accepted.forEach(employee -> eventPublisher.publishEvent(
+                            EmployeeChangedEvent.created(EmployeeDto.from(employee))));
+                });
+                imported += accepted.size();
+            } catch (DataAccessException e) {
+                Map<String, PendingRow> rowsByEmail = chunk.stream()
+                        .collect(Collectors.toMap(row -> row.employee().getEmail(), row -> row));
+                for (Employee employee : accepted) {
+                    rejectValidated(rowsByEmail.get(employee.getEmail()),
+                            "Chunk rolled back: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        private void assignIds(List<Employee> employees) {
+            EmployeeImportService.assignIds(employees, () -> jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class));
+        }
+
+        private void rejectValidated(PendingRow row, String message) {
+            reject(row.line(), row.employee().getEmail(), message);
+        }
+    }
+
+    private record PendingRow(long line, Employee employee) {
+    }
+
+    // Each sequence value v reserves v - 49 .. v, as Hibernate's pooled optimizer reads it
+    static void assignIds(List<Employee> employees, LongSupplier nextSequenceValue) {
+        long next = 0;
+        long last = -1;
+        for (Employee employee : employees) {
+            if (next > last) {
+                last = nextSequenceValue.getAsLong();
+                next = last - Employee.ID_ALLOCATION_SIZE + 1;
+            }
+            employee.setId(next++);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
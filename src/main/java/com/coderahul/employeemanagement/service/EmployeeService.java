@@ -1,50 +1,194 @@
 package com.coderahul.employeemanagement.service;
 
+import com.coderahul.employeemanagement.concurrency.Coalesced;
+import com.coderahul.employeemanagement.concurrency.SerializedWrite;
+import com.coderahul.employeemanagement.config.CacheConfig;
+import com.coderahul.employeemanagement.datasource.ReplicaRoutingDataSource;
+import com.coderahul.employeemanagement.dto.CursorPage;
+import com.coderahul.employeemanagement.dto.EmployeeBatchGetResult;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeKeyset;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
 import com.coderahul.employeemanagement.entity.Employee;
 import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.exception.StaleVersionException;
 import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.coderahul.employeemanagement.search.EmployeeSearchIndex;
+import com.coderahul.employeemanagement.stats.DepartmentStatsStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class EmployeeService {
 
+    public static final int MAX_BATCH_GET_KEYS = 10_000;
+    static final int BATCH_GET_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeSearchIndex searchIndex;
+    private final DepartmentStatsStore departmentStats;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache employeeCache;
+    private final Cache employeeIdsByEmail;
 
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository,
+                           EmployeeSearchIndex searchIndex,
+                           DepartmentStatsStore departmentStats,
+                           ApplicationEventPublisher eventPublisher,
+                           CacheManager cacheManager) {
         this.employeeRepository = employeeRepository;
+        this.searchIndex = searchIndex;
+        this.departmentStats = departmentStats;
+        this.eventPublisher = eventPublisher;
+        this.employeeCache = cacheManager.getCache(CacheConfig.EMPLOYEES);
+        this.employeeIdsByEmail = cacheManager.getCache(CacheConfig.EMPLOYEE_IDS_BY_EMAIL);
+    }
+
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getAllEmployees() {
+        return employeeRepository.findAllDtos();
     }
 
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeDto> getEmployeesPage(Long after, int limit) {
+        List<EmployeeDto> rows = employeeRepository.findPageAfter(after != null ? after : 0L, Limit.of(limit + 1));
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<EmployeeDto> page = rows.subList(0, limit);
+        return new CursorPage<>(page, String.valueOf(page.get(limit - 1).id()));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeDto> queryEmployees(EmployeeQuery query, String cursor, int limit) {
+        EmployeeKeyset after = cursor != null ? EmployeeKeyset.decode(cursor, query) : null;
+        List<EmployeeDto> rows = employeeRepository.findByQuery(query, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<EmployeeDto> page = rows.subList(0, limit);
+        return new CursorPage<>(page, EmployeeKeyset.after(page.get(limit - 1), query.sort()).encode(query));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeDto> consumer) {
+        try (Stream<EmployeeDto> employees = employeeRepository.streamAllOrderedById()) {
+            employees.forEach(consumer);
+        }
+    }
+
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id", unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeById(Long id) {
-        return employeeRepository.findById(id);
+        // Cached until the next change, so never from a lagging replica
+        return ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findById(id));
     }
 
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeByEmail(String email) {
-        return employeeRepository.findByEmail(email);
+        Long id = employeeIdsByEmail.get(email, Long.class);
+        if (id != null) {
+            Employee cached = employeeCache.get(id, Employee.class);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<Employee> employee = ReplicaRoutingDataSource.onPrimary(() -> employeeRepository.findByEmail(email));
+        employee.ifPresent(found -> {
+            employeeCache.put(found.getId(), found);
+            employeeIdsByEmail.put(email, found.getId());
+        });
+        return employee;
+    }
+
+    /**
+     * Looks employees up by id and by email with one {@code IN} query per
+     * {@value #BATCH_GET_CHUNK_SIZE} keys. An employee asked for by both id and email is returned once.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeBatchGetResult getEmployeesBatch(List<Long> ids, List<String> emails) {
+        Map<Long, EmployeeDto> byId = new HashMap<>();
+        for (List<Long> chunk : chunks(List.copyOf(new LinkedHashSet<>(ids)))) {
+            employeeRepository.findDtosByIdIn(chunk).forEach(employee -> byId.put(employee.id(), employee));
+        }
+        Map<String, EmployeeDto> byEmail = new HashMap<>();
+        for (List<String> chunk : chunks(List.copyOf(new LinkedHashSet<>(emails)))) {
+            employeeRepository.findDtosByEmailIn(chunk).forEach(employee -> byEmail.put(employee.email(), employee));
+        }
+        Map<Long, EmployeeDto> found = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            EmployeeDto employee = byId.get(id);
+            if (employee != null) {
+                found.put(id, employee);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        List<String> missingEmails = new ArrayList<>();
+        for (String email : new LinkedHashSet<>(emails)) {
+            EmployeeDto employee = byEmail.get(email);
+            if (employee != null) {
+                found.putIfAbsent(employee.id(), employee);
+            } else {
+                missingEmails.add(email);
+            }
+        }
+        return new EmployeeBatchGetResult(List.copyOf(found.values()), missingIds, missingEmails);
+    }
+
+    private static <T> List<List<T>> chunks(List<T> keys) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += BATCH_GET_CHUNK_SIZE) {
+            chunks.add(keys.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, keys.size())));
+        }
+        return chunks;
     }
 
     public Employee createEmployee(Employee employee) {
         if (employeeRepository.existsByEmail(employee.getEmail())) {
             throw new IllegalArgumentException("Employee with email " + employee.getEmail() + " already exists");
         }
-        return employeeRepository.save(employee);
+        employee.setVersion(null);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeDto.from(savedEmployee)));
+        return savedEmployee;
     }
 
+    @SerializedWrite
     public Employee updateEmployee(Long id, Employee employeeDetails) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        // A version in the request means "only if unchanged since"; none means last write wins
+        if (employeeDetails.getVersion() != null && !employeeDetails.getVersion().equals(employee.getVersion())) {
+            throw new StaleVersionException(Employee.class, id);
+        }
+        EmployeeDto before = EmployeeDto.from(employee);
 
         employee.setFirstName(employeeDetails.getFirstName());
         employee.setLastName(employeeDetails.getLastName());
@@ -54,43 +198,68 @@ public class EmployeeService {
         employee.setDepartment(employeeDetails.getDepartment());
         employee.setEmploymentStatus(employeeDetails.getEmploymentStatus());
 
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeDto.from(savedEmployee)));
+        return savedEmployee;
     }
 
+    @SerializedWrite
     public void deleteEmployee(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        EmployeeDto before = EmployeeDto.from(employee);
         employeeRepository.delete(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(before));
     }
 
-    public List<Employee> searchEmployeesByName(String name) {
-        return employeeRepository.findByFirstNameOrLastNameContaining(name);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> searchEmployeesByName(String name, int limit) {
+        List<Long> rankedIds = searchIndex.search(name, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EmployeeDto> rows = employeeRepository.findDtosByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(EmployeeDto::id, Function.identity()));
+        return rankedIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    public List<Employee> getEmployeesByDepartment(Long departmentId) {
-        return employeeRepository.findByDepartmentId(departmentId);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesByDepartment(Long departmentId) {
+        return employeeRepository.findDtosByDepartmentId(departmentId);
     }
 
-    public List<Employee> getEmployeesByStatus(EmploymentStatus status) {
-        return employeeRepository.findByEmploymentStatus(status);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesByStatus(EmploymentStatus status) {
+        return employeeRepository.findDtosByEmploymentStatus(status);
     }
 
-    public List<Employee> getEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate) {
-        return employeeRepository.findByHireDateBetween(startDate, endDate);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate) {
+        return employeeRepository.findDtosByHireDateBetween(startDate, endDate);
     }
 
-    public List<Employee> getEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
-        return employeeRepository.findBySalaryBetween(minSalary, maxSalary);
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesBySalaryRange(BigDecimal minSalary, BigDecimal maxSalary) {
+        return employeeRepository.findDtosBySalaryBetween(minSalary, maxSalary);
     }
 
     public Long getEmployeeCountByDepartment(Long departmentId) {
-        return employeeRepository.countEmployeesByDepartmentId(departmentId);
+        return departmentStats.get(departmentId).employeeCount();
     }
 
     public BigDecimal getAverageSalaryByDepartment(Long departmentId) {
-        return employeeRepository.findAverageSalaryByDepartment(departmentId);
+        return departmentStats.get(departmentId).averageSalary();
     }
 
+    @SerializedWrite
     @Transactional
     public Employee promoteEmployee(Long id, BigDecimal newSalary) {
         Employee employee = employeeRepository.findById(id)
@@ -99,17 +268,24 @@ public class EmployeeService {
         if (newSalary.compareTo(employee.getSalary()) <= 0) {
             throw new IllegalArgumentException("New salary must be higher than current salary");
         }
+        EmployeeDto before = EmployeeDto.from(employee);
         
         employee.setSalary(newSalary);
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeDto.from(savedEmployee)));
+        return savedEmployee;
     }
 
+    @SerializedWrite
     @Transactional
     public Employee terminateEmployee(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        EmployeeDto before = EmployeeDto.from(employee);
         
         employee.setEmploymentStatus(EmploymentStatus.TERMINATED);
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeDto.from(savedEmployee)));
+        return savedEmployee;
     }
 }
\ No newline at end of file
@@ -0,0 +1,404 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.CursorPage;
+import com.coderahul.employeemanagement.dto.DepartmentDto;
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
+import com.coderahul.employeemanagement.dto.ReportJobDto;
+import com.coderahul.employeemanagement.dto.ReportJobRequest;
+import com.coderahul.employeemanagement.entity.ReportJob;
+import com.coderahul.employeemanagement.entity.ReportJob.Status;
+import com.coderahul.employeemanagement.exception.JobQueueFullException;
+import com.coderahul.employeemanagement.job.PriorityJobExecutor;
+import com.coderahul.employeemanagement.job.ReportFileWriter;
+import com.coderahul.employeemanagement.repository.ReportJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Runs exports and reports in the background. A submitted job is stored in {@code report_jobs},
+ * queued on a small priority worker pool and written to a gzip file under
+ * {@code app.jobs.directory}. Workers read in keyset pages through {@link EmployeeService}, so a
+ * job holds a connection only for one page at a time. Queued jobs and jobs interrupted by a
+ * shutdown are queued again at startup; finished jobs and their files are removed after
+ * {@code app.jobs.retention}.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+    private static final int PAGE_SIZE = 1000;
+    private static final int DEFAULT_PRIORITY = 5;
+    private static final int MAX_PRIORITY = 9;
+    private static final int MAX_LISTED_JOBS = 100;
+    private static final long PROGRESS_INTERVAL_NANOS = 500_000_000L;
+
+    private final ReportJobRepository reportJobRepository;
+    private final EmployeeService employeeService;
+    private final DepartmentService departmentService;
+    private final ObjectMapper objectMapper;
+    private final PriorityJobExecutor executor;
+    private final Path directory;
+    private final Duration retention;
+    private final Map<Long, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportJobService(ReportJobRepository reportJobRepository,
+                            EmployeeService employeeService,
+                            DepartmentService departmentService,
+                            ObjectMapper objectMapper,
+                            @Value("${app.jobs.workers:2}") int workers,
+                            @Value("${app.jobs.max-queued:100}") int maxQueued,
+                            @Value("${app.jobs.directory:${java.io.tmpdir}/employee-management-jobs}") String directory,
+                            @Value("${app.jobs.retention:P1D}") Duration retention) {
+        this.reportJobRepository = reportJobRepository;
+        this.employeeService = employeeService;
+        this.departmentService = departmentService;
+        this.objectMapper = objectMapper;
+        this.executor = new PriorityJobExecutor(workers, maxQueued, "report-job-");
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create job directory " + directory, e);
+        }
+    }
+
+    public ReportJobDto submit(ReportJobRequest request) {
+        if (request == null || request.type() == null || request.format() == null) {
+            throw new IllegalArgumentException("type and format are required");
+        }
+        int priority = request.priority() != null ? request.priority() : DEFAULT_PRIORITY;
+        if (priority < 0 || priority > MAX_PRIORITY) {
+            throw new IllegalArgumentException("priority must be between 0 and " + MAX_PRIORITY);
+        }
+        ReportJob job = new ReportJob();
+        job.setType(request.type());
+        job.setFormat(request.format());
+        job.setPriority(priority);
+        job.setStatus(Status.QUEUED);
+        job.setSpec(toJson(request));
+        job.setCreatedAt(LocalDateTime.now());
+        job = reportJobRepository.save(job);
+        try {
+            enqueue(job);
+        } catch (JobQueueFullException e) {
+            reportJobRepository.delete(job);
+            throw e;
+        }
+        return ReportJobDto.from(job);
+    }
+
+    public Optional<ReportJobDto> getJob(Long id) {
+        return reportJobRepository.findById(id).map(this::toDto);
+    }
+
+    public List<ReportJobDto> getRecentJobs() {
+        return reportJobRepository.findByOrderByIdDesc(Limit.of(MAX_LISTED_JOBS)).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Cancels a queued or running job. A running job stops at its next page and its partial
+     * file is deleted.
+     */
+    public ReportJobDto cancel(Long id) {
+        ReportJob job = findJob(id);
+        if (job.getStatus().isFinished()) {
+            throw new IllegalStateException("Report job " + id + " has already finished: " + job.getStatus());
+        }
+        ActiveJob active = activeJobs.get(id);
+        if (active == null) {
+            job.setStatus(Status.CANCELLED);
+            job.setFinishedAt(LocalDateTime.now());
+            return ReportJobDto.from(reportJobRepository.save(job));
+        }
+        active.cancelled = true;
+        if (executor.removeQueued(id)) {
+            finish(active, Status.CANCELLED, null);
+        }
+        return getJob(id).orElseThrow();
+    }
+
+    /**
+     * The gzip file of a successful job.
+     */
+    public Path getResultFile(Long id) {
+        ReportJob job = findJob(id);
+        if (job.getStatus() != Status.SUCCEEDED) {
+            throw new IllegalStateException("Report job " + id + " has no result: " + job.getStatus());
+        }
+        Path file = resultFile(job);
+        if (!Files.exists(file)) {
+            throw new RuntimeException("Result of report job " + id + " no longer exists");
+        }
+        return file;
+    }
+
+    /**
+     * Returns the job's current state and, unless it has already finished, calls
+     * {@code listener} on every progress update until it does.
+     */
+    public ReportJobDto subscribe(Long id, Consumer<ReportJobDto> listener) {
+        ReportJobDto current = toDto(findJob(id));
+        ActiveJob active = activeJobs.get(id);
+        if (active != null) {
+            synchronized (active) {
+                if (!active.finished) {
+                    active.listeners.add(listener);
+                    return current;
+                }
+            }
+        }
+        return toDto(findJob(id));
+    }
+
+    public void unsubscribe(Long id, Consumer<ReportJobDto> listener) {
+        ActiveJob active = activeJobs.get(id);
+        if (active != null) {
+            active.listeners.remove(listener);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        int resumed = 0;
+        for (ReportJob job : reportJobRepository.findByStatusInOrderByIdAsc(List.of(Status.QUEUED, Status.RUNNING))) {
+            if (job.getStatus() == Status.RUNNING) {
+                job.setStatus(Status.QUEUED);
+                job.setStartedAt(null);
+                job.setRowsWritten(0);
+                job = reportJobRepository.save(job);
+            }
+            try {
+                enqueue(job);
+                resumed++;
+            } catch (JobQueueFullException e) {
+                job.setStatus(Status.FAILED);
+                job.setError("Not resumed after restart: " + e.getMessage());
+                job.setFinishedAt(LocalDateTime.now());
+                reportJobRepository.save(job);
+            }
+        }
+        if (resumed > 0) {
+            log.info("Resumed {} report jobs", resumed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.cleanup-interval:PT10M}")
+    public void purgeExpiredJobs() {
+        for (ReportJob job : reportJobRepository.findByFinishedAtBefore(LocalDateTime.now().minus(retention))) {
+            try {
+                Files.deleteIfExists(resultFile(job));
+            } catch (IOException e) {
+                log.warn("Could not delete result of report job {}: {}", job.getId(), e.getMessage());
+                continue;
+            }
+            reportJobRepository.delete(job);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Running jobs stay RUNNING in the table and are started again on the next startup
+        executor.shutdownNow();
+    }
+
+    private void enqueue(ReportJob job) {
+        ActiveJob active = new ActiveJob(job);
+        activeJobs.put(job.getId(), active);
+        try {
+            executor.submit(job.getId(), job.getPriority(), () -> run(active));
+        } catch (JobQueueFullException e) {
+            activeJobs.remove(job.getId());
+            throw e;
+        }
+    }
+
+    private void run(ActiveJob active) {
+        if (active.cancelled) {
+            finish(active, Status.CANCELLED, null);
+            return;
+        }
+        ReportJob job = active.job;
+        job.setStatus(Status.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        active.job = job = reportJobRepository.save(job);
+        active.publish(ReportJobDto.from(job));
+
+        Path result = resultFile(job);
+        Path partial = result.resolveSibling(result.getFileName() + ".part");
+        try {
+            ReportJobRequest request = objectMapper.readValue(job.getSpec(), ReportJobRequest.class);
+            try (ReportFileWriter writer = new ReportFileWriter(partial, job.getType(), job.getFormat(), objectMapper)) {
+                if (job.getType() == ReportJob.Type.EMPLOYEE_EXPORT) {
+                    writeEmployees(active, writer, request);
+                } else {
+                    writeDepartments(active, writer, request);
+                }
+            }
+            Files.move(partial, result, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.setResultBytes(Files.size(result));
+            finish(active, Status.SUCCEEDED, null);
+        } catch (CancellationException e) {
+            deleteQuietly(partial);
+            if (!executor.isShutdown()) {
+                finish(active, Status.CANCELLED, null);
+            }
+        } catch (Exception e) {
+            deleteQuietly(partial);
+            if (!executor.isShutdown()) {
+                log.warn("Report job {} failed", job.getId(), e);
+                finish(active, Status.FAILED, String.valueOf(e.getMessage()));
+            }
+        }
+    }
+
+    private void writeEmployees(ActiveJob active, ReportFileWriter writer, ReportJobRequest request) throws IOException {
+        EmployeeQuery query = request.employeeQuery(request.departmentIds());
+        String cursor = null;
+        do {
+            CursorPage<EmployeeDto> page = employeeService.queryEmployees(query, cursor, PAGE_SIZE);
+            for (EmployeeDto employee : page.items()) {
+                writer.writeEmployee(employee);
+            }
+            active.checkpoint(writer.rows());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    private void writeDepartments(ActiveJob active, ReportFileWriter writer, ReportJobRequest request) throws IOException {
+        for (DepartmentDto department : departmentService.getAllDepartments()) {
+            if (request.departmentIds() != null && !request.departmentIds().isEmpty()
+                    && !request.departmentIds().contains(department.id())) {
+                continue;
+            }
+            EmployeeQuery query = request.employeeQuery(List.of(department.id()));
+            List<EmployeeDto> employees = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorPage<EmployeeDto> page = employeeService.queryEmployees(query, cursor, PAGE_SIZE);
+                employees.addAll(page.items());
+                active.checkpoint(writer.rows());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            writer.writeDepartment(new DepartmentWithEmployeesDto(department.id(), department.departmentName(),
+                    department.description(), employees));
+        }
+        active.checkpoint(writer.rows());
+    }
+
+    private void finish(ActiveJob active, Status status, String error) {
+        ReportJob job = active.job;
+        job.setStatus(status);
+        job.setRowsWritten(active.rows);
+        job.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        job.setFinishedAt(LocalDateTime.now());
+        active.job = reportJobRepository.save(job);
+        ReportJobDto dto = ReportJobDto.from(active.job);
+        synchronized (active) {
+            active.finished = true;
+            active.publish(dto);
+            active.listeners.clear();
+        }
+        activeJobs.remove(job.getId());
+    }
+
+    private ReportJob findJob(Long id) {
+        return reportJobRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Report job not found with id: " + id));
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        ActiveJob active = activeJobs.get(job.getId());
+        return active != null && job.getStatus() == Status.RUNNING
+                ? ReportJobDto.from(job, Status.RUNNING, active.rows)
+                : ReportJobDto.from(job);
+    }
+
+    private Path resultFile(ReportJob job) {
+        return directory.resolve("report-job-" + job.getId() + "."
+                + job.getFormat().name().toLowerCase(Locale.ROOT) + ".gz");
+    }
+
+    private String toJson(ReportJobRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable job request: " + e.getOriginalMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static final class ActiveJob {
+        private final List<Consumer<ReportJobDto>> listeners = new CopyOnWriteArrayList<>();
+        private volatile ReportJob job;
+        private volatile boolean cancelled;
+        private volatile long rows;
+        private boolean finished;
+        private long lastPublished = System.nanoTime();
+
+        ActiveJob(ReportJob job) {
+            this.job = job;
+        }
+
+        // Called by the worker between pages: stops a cancelled or interrupted job and reports progress
+        void checkpoint(long rowsWritten) {
+            rows = rowsWritten;
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            long now = System.nanoTime();
+            if (now - lastPublished >= PROGRESS_INTERVAL_NANOS && !listeners.isEmpty()) {
+                lastPublished = now;
+                publish(ReportJobDto.from(job, Status.RUNNING, rowsWritten));
+            }
+        }
+
+        void publish(ReportJobDto dto) {
+            for (Consumer<ReportJobDto> listener : listeners) {
+                try {
+                    listener.accept(dto);
+                } catch (RuntimeException e) {
+                    listeners.remove(listener);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentRequest;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentResult;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentResult.Change;
+import com.coderahul.employeemanagement.dto.SalaryAdjustmentResult.ChunkReport;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk raises (e.g. an annual raise cycle). The selection is walked in id order, one transaction
+ * per chunk: the chunk's rows are locked, raised with a single set-based UPDATE and re-read so
+ * that {@link EmployeeChangedEvent}s keep caches and aggregates in step. The UPDATE itself only
+ * touches rows whose salary goes up and still fits the column, the same rule as a promotion.
+ */
+@Service
+public class SalaryAdjustmentService {
+
+    private static final BigDecimal MAX_SALARY = new BigDecimal("9999999999.99");
+    private static final BigDecimal MAX_PERCENTAGE = BigDecimal.valueOf(100);
+    private static final int MAX_EMPLOYEE_IDS = 10_000;
+    private static final int SAMPLE_SIZE = 100;
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @Autowired
+    public SalaryAdjustmentService(EmployeeRepository employeeRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.salary-adjustment.chunk-size:1000}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Applies (or, for a dry run, only computes) the raise. A failing chunk stops the run; chunks
+     * before it stay committed.
+     */
+    public SalaryAdjustmentResult adjustSalaries(SalaryAdjustmentRequest request) {
+        validate(request);
+        BigDecimal factor = request.percentage() == null ? null
+                : BigDecimal.ONE.add(request.percentage().movePointLeft(2));
+        Run run = new Run(request, factor);
+        while (transactionTemplate.execute(status -> run.nextChunk())) {
+            // one transaction per chunk
+        }
+        return run.result();
+    }
+
+    private static void validate(SalaryAdjustmentRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request body is required");
+        }
+        if (!request.hasDepartmentIds() && !request.hasStatuses() && !request.hasEmployeeIds()) {
+            throw new IllegalArgumentException("Select employees by departmentIds, statuses or employeeIds");
+        }
+        if (request.hasEmployeeIds() && request.employeeIds().size() > MAX_EMPLOYEE_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_EMPLOYEE_IDS + " employeeIds are allowed");
+        }
+        if ((request.percentage() == null) == (request.amount() == null)) {
+            throw new IllegalArgumentException("Exactly one of percentage and amount is required");
+        }
+        if (request.percentage() != null
+                && (request.percentage().signum() <= 0 || request.percentage().compareTo(MAX_PERCENTAGE) > 0
+                || request.percentage().stripTrailingZeros().scale() > 4)) {
+            throw new IllegalArgumentException("percentage must be greater than 0 and at most " + MAX_PERCENTAGE
+                    + " with at most 4 decimal places");
+        }
+        if (request.amount() != null && (request.amount().signum() <= 0 || request.amount().scale() > 2)) {
+            throw new IllegalArgumentException("amount must be greater than 0 with at most 2 decimal places");
+        }
+    }
+
+    private final class Run {
+        private final SalaryAdjustmentRequest request;
+        private final BigDecimal factor;
+        private final List<ChunkReport> chunks = new ArrayList<>();
+        private final List<Change> sample = new ArrayList<>();
+        private long afterId;
+        private long matched;
+        private long adjusted;
+        private BigDecimal payrollIncrease = BigDecimal.ZERO;
+
+        Run(SalaryAdjustmentRequest request, BigDecimal factor) {
+            this.request = request;
+            this.factor = factor;
+        }
+
+        boolean nextChunk() {
+            long started = System.nanoTime();
+            List<EmployeeDto> before = employeeRepository.findSalariedForAdjustment(
+                    request, afterId, chunkSize, !request.dryRun());
+            if (before.isEmpty()) {
+                return false;
+            }
+            List<Change> changes = new ArrayList<>();
+            for (EmployeeDto employee : before) {
+                BigDecimal newSalary = raise(employee.salary());
+                if (newSalary.compareTo(employee.salary()) > 0 && newSalary.compareTo(MAX_SALARY) <= 0) {
+                    changes.add(new Change(employee.id(), employee.salary(), newSalary));
+                }
+            }
+            if (!request.dryRun() && !changes.isEmpty()) {
+                changes = apply(before, changes);
+            }
+
+            BigDecimal chunkIncrease = BigDecimal.ZERO;
+            for (Change change : changes) {
+                chunkIncrease = chunkIncrease.add(change.newSalary().subtract(change.oldSalary()));
+                if (sample.size() < SAMPLE_SIZE) {
+                    sample.add(change);
+                }
+            }
+            afterId = before.get(before.size() - 1).id();
+            matched += before.size();
+            adjusted += changes.size();
+            payrollIncrease = payrollIncrease.add(chunkIncrease);
+            chunks.add(new ChunkReport(chunks.size() + 1, before.get(0).id(), afterId, before.size(),
+                    changes.size(), before.size() - changes.size(), chunkIncrease,
+                    (System.nanoTime() - started) / 1_000_000));
+            return true;
+        }
+
+        // Runs the set-based UPDATE and returns what the database actually stored
+        private List<Change> apply(List<EmployeeDto> before, List<Change> planned) {
+            List<Long> ids = planned.stream().map(Change::employeeId).toList();
+            if (factor != null) {
+                employeeRepository.raiseSalariesByFactor(ids, factor, MAX_SALARY);
+            } else {
+                employeeRepository.raiseSalariesByAmount(ids, request.amount(), MAX_SALARY);
+            }
+            Map<Long, EmployeeDto> beforeById = before.stream()
+                    .collect(Collectors.toMap(EmployeeDto::id, Function.identity()));
+            List<Change> applied = new ArrayList<>(planned.size());
+            for (EmployeeDto after : employeeRepository.findDtosByIdIn(ids)) {
+                EmployeeDto previous = beforeById.get(after.id());
+                if (after.salary().compareTo(previous.salary()) != 0) {
+                    applied.add(new Change(after.id(), previous.salary(), after.salary()));
+                    eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, after));
+                }
+            }
+            return applied;
+        }
+
+        private BigDecimal raise(BigDecimal salary) {
+            return factor != null
+                    ? salary.multiply(factor).setScale(2, RoundingMode.HALF_UP)
+                    : salary.add(request.amount());
+        }
+
+        SalaryAdjustmentResult result() {
+            return new SalaryAdjustmentResult(request.dryRun(), matched, adjusted, matched - adjusted,
+                    payrollIncrease, chunks, sample);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.coderahul.employeemanagement.stats;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Per-department employee count and salary aggregates, maintained from committed
+ * {@link EmployeeChangedEvent}s. Salaries are kept as a sorted multiset so min and max stay
+ * exact when an employee leaves or gets a raise.
+ */
+@Component
+public class DepartmentStatsStore {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            if (event.before() != null) {
+                remove(buckets, event.before());
+            }
+            if (event.after() != null) {
+                add(buckets, event.after());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Snapshot get(Long departmentId) {
+        Bucket bucket = departmentId == null ? null : buckets.get(departmentId);
+        return bucket == null ? Snapshot.EMPTY : bucket.snapshot();
+    }
+
+    /**
+     * Replaces the store contents. {@code loader} must add every (departmentId, salary) pair
+     * through the supplied {@link Builder}; writers are blocked until the new table is swapped in.
+     */
+    public void rebuild(Consumer<Builder> loader) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Bucket> rebuilt = new ConcurrentHashMap<>();
+            loader.accept((departmentId, salary) -> rebuilt.computeIfAbsent(departmentId, id -> new Bucket()).add(salary));
+            buckets = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(Map<Long, Bucket> target, EmployeeDto employee) {
+        if (employee.departmentId() != null) {
+            target.computeIfAbsent(employee.departmentId(), id -> new Bucket()).add(employee.salary());
+        }
+    }
+
+    private static void remove(Map<Long, Bucket> target, EmployeeDto employee) {
+        if (employee.departmentId() != null) {
+            Bucket bucket = target.get(employee.departmentId());
+            if (bucket != null) {
+                bucket.remove(employee.salary());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Builder {
+        void add(Long departmentId, BigDecimal salary);
+    }
+
+    public record Snapshot(long employeeCount, long salaryCount, BigDecimal totalSalary,
+                           BigDecimal minSalary, BigDecimal maxSalary) {
+
+        static final Snapshot EMPTY = new Snapshot(0, 0, BigDecimal.ZERO, null, null);
+
+        public BigDecimal averageSalary() {
+            return salaryCount == 0 ? null : totalSalary.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP);
+        }
+    }
+
+    private static final class Bucket {
+        private final TreeMap<BigDecimal, Integer> salaries = new TreeMap<>();
+        private long employeeCount;
+        private long salaryCount;
+        private BigDecimal totalSalary = BigDecimal.ZERO;
+
+        synchronized void add(BigDecimal salary) {
+            employeeCount++;
+            if (salary != null) {
+                salary = normalize(salary);
+                salaryCount++;
+                totalSalary = totalSalary.add(salary);
+                salaries.merge(salary, 1, Integer::sum);
+            }
+        }
+
+        synchronized void remove(BigDecimal salary) {
+            employeeCount--;
+            if (salary != null) {
+                salary = normalize(salary);
+                salaryCount--;
+                totalSalary = totalSalary.subtract(salary);
+                salaries.computeIfPresent(salary, (key, count) -> count == 1 ? null : count - 1);
+            }
+        }
+
+        // Matches the column's scale so values read back from the database and values taken
+        // from a request body share the same multiset key and presentation.
+        private static BigDecimal normalize(BigDecimal salary) {
+            return salary.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        synchronized Snapshot snapshot() {
+            return new Snapshot(employeeCount, salaryCount, totalSalary,
+                    salaries.isEmpty() ? null : salaries.firstKey(),
+                    salaries.isEmpty() ? null : salaries.lastKey());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.coderahul.employeemanagement.stats;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * One {@link SalarySketch} per (department, status), maintained from committed
+ * {@link EmployeeChangedEvent}s. Queries merge the sketches they need, so their cost depends on
+ * the number of departments and statuses, not on the number of employees.
+ */
+@Component
+public class SalaryDistributionStore {
+
+    private record Key(Long departmentId, EmploymentStatus status) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Key, SalarySketch> sketches = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            if (event.before() != null && event.before().salary() != null) {
+                SalarySketch sketch = sketches.get(keyOf(event.before()));
+                if (sketch != null) {
+                    sketch.remove(toCents(event.before().salary()));
+                }
+            }
+            if (event.after() != null && event.after().salary() != null) {
+                sketches.computeIfAbsent(keyOf(event.after()), key -> new SalarySketch()).add(toCents(event.after().salary()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Merged sketch for one department, or for every employee when {@code departmentId} is null.
+     * An empty {@code statuses} collection means all statuses.
+     */
+    public SalarySketch merged(Long departmentId, Collection<EmploymentStatus> statuses) {
+        SalarySketch merged = new SalarySketch();
+        sketches.forEach((key, sketch) -> {
+            if ((departmentId == null || departmentId.equals(key.departmentId()))
+                    && (statuses.isEmpty() || statuses.contains(key.status()))) {
+                merged.merge(sketch);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * Replaces the store contents. {@code loader} must add every salaried employee through the
+     * supplied {@link Builder}; writers are blocked until the new sketches are swapped in.
+     */
+    public void rebuild(Consumer<Builder> loader) {
+        lock.writeLock().lock();
+        try {
+            Map<Key, SalarySketch> rebuilt = new ConcurrentHashMap<>();
+            loader.accept((departmentId, status, salary) -> {
+                if (salary != null) {
+                    rebuilt.computeIfAbsent(new Key(departmentId, status), key -> new SalarySketch()).add(toCents(salary));
+                }
+            });
+            sketches = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Key keyOf(EmployeeDto employee) {
+        return new Key(employee.departmentId(), employee.employmentStatus());
+    }
+
+    private static long toCents(BigDecimal salary) {
+        return salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    @FunctionalInterface
+    public interface Builder {
+        void add(Long departmentId, EmploymentStatus status, BigDecimal salary);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.coderahul.employeemanagement.stats;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch over salaries with logarithmic buckets (DDSketch): every value lands in
+ * the bucket {@code ceil(log_gamma(value))}, so any quantile it returns is within
+ * {@link #RELATIVE_ACCURACY} of the true value. Unlike t-digest or KLL the buckets are plain
+ * counters, so a salary that changes or leaves can be removed again. Size depends on the spread of
+ * salaries, not on how many there are.
+ * <p>
+ * The sketch does not know its exact extremes, only the buckets holding them:
+ * {@link #lowerBound()} and {@link #upperBound()} enclose every value it holds, each within one
+ * bucket width (about 2%) of the nearest one.
+ */
+public final class SalarySketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long count;
+    private long totalCents;
+
+    public synchronized void add(long cents) {
+        int index = index(cents);
+        grow(index);
+        counts[index - offset]++;
+        count++;
+        totalCents += cents;
+    }
+
+    public synchronized void remove(long cents) {
+        int index = index(cents);
+        if (index < offset || index >= offset + counts.length || counts[index - offset] == 0) {
+            return;
+        }
+        counts[index - offset]--;
+        count--;
+        totalCents -= cents;
+    }
+
+    public synchronized void merge(SalarySketch other) {
+        long[] otherCounts;
+        int otherOffset;
+        synchronized (other) {
+            if (other.count == 0) {
+                return;
+            }
+            otherCounts = other.counts.clone();
+            otherOffset = other.offset;
+            count += other.count;
+            totalCents += other.totalCents;
+        }
+        grow(otherOffset);
+        grow(otherOffset + otherCounts.length - 1);
+        for (int i = 0; i < otherCounts.length; i++) {
+            counts[otherOffset + i - offset] += otherCounts[i];
+        }
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    public synchronized long totalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Lower edge of the lowest non-empty bucket, in dollars: no value is below it, and the lowest is
+     * less than one bucket width (about 2%) above it. NaN when the sketch is empty.
+     */
+    public synchronized double lowerBound() {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                return Math.pow(GAMMA, offset + i - 1);
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Upper edge of the highest non-empty bucket, in dollars: no value is above it, and the highest
+     * is at most one bucket width (about 2%) below it. NaN when the sketch is empty.
+     */
+    public synchronized double upperBound() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return Math.pow(GAMMA, offset + i);
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Value at quantile {@code q} (0 to 1, nearest rank), or NaN when the sketch is empty.
+     */
+    public synchronized double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return value(offset + i);
+            }
+        }
+        return value(offset + counts.length - 1);
+    }
+
+    /**
+     * Adds each bucket's count to the equal-width bin of {@code [min, max]} holding the bucket's
+     * representative value.
+     */
+    public synchronized long[] histogram(double min, double max, int bins) {
+        long[] result = new long[bins];
+        double width = (max - min) / bins;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            int bin = width <= 0 ? 0 : (int) ((value(offset + i) - min) / width);
+            result[Math.max(0, Math.min(bin, bins - 1))] += counts[i];
+        }
+        return result;
+    }
+
+    private void grow(int index) {
+        if (counts.length == 0) {
+            counts = new long[16];
+            offset = index - 8;
+            return;
+        }
+        if (index < offset) {
+            int shift = Math.max(offset - index, counts.length / 2);
+            long[] grown = new long[counts.length + shift];
+            System.arraycopy(counts, 0, grown, shift, counts.length);
+            counts = grown;
+            offset -= shift;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length + counts.length / 2));
+        }
+    }
+
+    private static int index(long cents) {
+        return (int) Math.ceil(Math.log(Math.max(cents, 1) / 100.0) / LOG_GAMMA);
+    }
+
+    // Midpoint (in relative terms) of the bucket (gamma^(index-1), gamma^index]
+    private static double value(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
\ No newline at end of file
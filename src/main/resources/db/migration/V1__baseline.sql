@@ -0,0 +1,24 @@
+-- Baseline schema, equivalent to what Hibernate generated from the entities under ddl-auto=create-drop.
+-- Written in the SQL subset shared by H2 and PostgreSQL.
+
+CREATE TABLE departments (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    department_name VARCHAR(255) NOT NULL,
+    description     VARCHAR(500),
+    CONSTRAINT uk_departments_department_name UNIQUE (department_name)
+);
+
+CREATE TABLE employees (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name        VARCHAR(255) NOT NULL,
+    last_name         VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    phone_number      VARCHAR(255),
+    hire_date         DATE NOT NULL,
+    salary            NUMERIC(12, 2),
+    department_id     BIGINT,
+    employment_status VARCHAR(255),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT fk_employees_department FOREIGN KEY (department_id) REFERENCES departments (id),
+    CONSTRAINT ck_employees_employment_status CHECK (employment_status IN ('ACTIVE', 'INACTIVE', 'TERMINATED'))
+);
\ No newline at end of file
@@ -0,0 +1,12 @@
+-- Indexes behind the EmployeeRepository filters. Keep in sync with @Table(indexes) on Employee.
+
+-- Department lookups, per-department COUNT/AVG and the GROUP BY department aggregates are answered
+-- from this index alone (department_id and salary are both in it); the status column lets
+-- department + status filters use it as well.
+CREATE INDEX idx_employees_department_status_salary ON employees (department_id, employment_status, salary);
+
+CREATE INDEX idx_employees_employment_status ON employees (employment_status);
+
+CREATE INDEX idx_employees_hire_date ON employees (hire_date);
+
+CREATE INDEX idx_employees_salary ON employees (salary);
\ No newline at end of file
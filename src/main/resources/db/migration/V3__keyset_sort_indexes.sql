@@ -0,0 +1,8 @@
+-- The employee query endpoint pages by (sort column, id). With id as the trailing column the index
+-- delivers rows already in that order and the cursor condition becomes one range scan.
+DROP INDEX idx_employees_hire_date;
+DROP INDEX idx_employees_salary;
+
+CREATE INDEX idx_employees_hire_date_id ON employees (hire_date, id);
+
+CREATE INDEX idx_employees_salary_id ON employees (salary, id);
\ No newline at end of file
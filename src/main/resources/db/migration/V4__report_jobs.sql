@@ -0,0 +1,21 @@
+-- Background export/report jobs. Rows outlive the process so queued and interrupted jobs are
+-- picked up again at startup.
+CREATE TABLE report_jobs (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_type     VARCHAR(32) NOT NULL,
+    job_format   VARCHAR(16) NOT NULL,
+    priority     INTEGER NOT NULL,
+    status       VARCHAR(16) NOT NULL,
+    spec         VARCHAR(4000) NOT NULL,
+    rows_written BIGINT NOT NULL,
+    result_bytes BIGINT,
+    error        VARCHAR(1000),
+    created_at   TIMESTAMP NOT NULL,
+    started_at   TIMESTAMP,
+    finished_at  TIMESTAMP,
+    CONSTRAINT ck_report_jobs_status CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED'))
+);
+
+CREATE INDEX idx_report_jobs_status ON report_jobs (status);
+
+CREATE INDEX idx_report_jobs_finished_at ON report_jobs (finished_at);
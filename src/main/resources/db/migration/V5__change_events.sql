@@ -0,0 +1,14 @@
+-- Outbox of employee and department mutations, written in the mutating transaction and read by
+-- /api/changes in seq order. data is the entity after the change as JSON, null for deletes.
+CREATE TABLE change_events (
+    seq          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type  VARCHAR(16) NOT NULL,
+    entity_id    BIGINT NOT NULL,
+    operation    VARCHAR(16) NOT NULL,
+    occurred_at  TIMESTAMP NOT NULL,
+    data         VARCHAR(2000),
+    CONSTRAINT ck_change_events_entity_type CHECK (entity_type IN ('EMPLOYEE', 'DEPARTMENT')),
+    CONSTRAINT ck_change_events_operation CHECK (operation IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+CREATE INDEX idx_change_events_occurred_at ON change_events (occurred_at);
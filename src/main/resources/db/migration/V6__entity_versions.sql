@@ -0,0 +1,4 @@
+-- Optimistic locking versions. Rows written before this migration start at version 0.
+ALTER TABLE employees ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE departments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
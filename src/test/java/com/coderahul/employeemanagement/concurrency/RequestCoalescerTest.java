@@ -0,0 +1,157 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger repositoryCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(Duration.ZERO, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsRunOnce() throws Throwable {
+        List<Future<Object>> results = callConcurrently(() -> List.of("Ada", "Grace"));
+
+        for (Future<Object> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(List.of("Ada", "Grace"));
+        }
+        assertThat(repositoryCalls).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+        assertThat(calls("joined")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws Throwable {
+        IllegalStateException failure = new IllegalStateException("database down");
+        List<Future<Object>> results = callConcurrently(() -> {
+            throw failure;
+        });
+
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseReference(failure);
+        }
+        assertThat(repositoryCalls).hasValue(1);
+    }
+
+    @Test
+    void flightIsRemovedOnceItCompletes() throws Throwable {
+        for (Future<Object> result : callConcurrently(() -> "first")) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        assertThat(flights()).isEmpty();
+
+        assertThat(coalescer.coalesce(joinPoint(invocation -> {
+            repositoryCalls.incrementAndGet();
+            return "second";
+        }))).isEqualTo("second");
+        assertThat(repositoryCalls).hasValue(2);
+        assertThat(flights()).isEmpty();
+    }
+
+    @Test
+    void failedFlightIsRemoved() throws Throwable {
+        for (Future<Object> result : callConcurrently(() -> {
+            throw new IllegalStateException("database down");
+        })) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        }
+        assertThat(flights()).isEmpty();
+    }
+
+    // Starts CALLERS identical calls; the first one's query blocks until all the others have joined it
+    private List<Future<Object>> callConcurrently(Repository repository) throws Throwable {
+        List<Future<Object>> results = new ArrayList<>();
+        ProceedingJoinPoint joinPoint = joinPoint(invocation -> {
+            repositoryCalls.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            return repository.call();
+        });
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return coalescer.coalesce(joinPoint);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calls("joined") < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static ProceedingJoinPoint joinPoint(Answer<Object> proceed) throws Throwable {
+        Method method = RequestCoalescerTest.class.getDeclaredMethod("joinPoint", Answer.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {"an", 20});
+        when(joinPoint.proceed()).thenAnswer(proceed);
+        return joinPoint;
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.find("app.coalescing.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private Map<?, ?> flights() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(coalescer, "flights");
+    }
+
+    @FunctionalInterface
+    private interface Repository {
+        Object call() throws Exception;
+    }
+}
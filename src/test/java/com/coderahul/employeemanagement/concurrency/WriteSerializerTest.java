@@ -0,0 +1,84 @@
+package com.coderahul.employeemanagement.concurrency;
+
+import com.coderahul.employeemanagement.exception.StaleVersionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.StaleObjectStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteSerializerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteSerializer writeSerializer;
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        writeSerializer = new WriteSerializer(16, 3, Duration.ofMillis(1), meterRegistry);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(WriteSerializerTest.class.getDeclaredMethod("setUp"));
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {42L});
+        when(joinPoint.getSignature()).thenReturn(signature);
+    }
+
+    @Test
+    void retriesOptimisticLockFailureRaisedAtFlush() throws Throwable {
+        when(joinPoint.proceed())
+                .thenThrow(new ObjectOptimisticLockingFailureException("stale row", new StaleObjectStateException("Employee", 42L)))
+                .thenReturn("saved");
+
+        assertThat(writeSerializer.serialize(joinPoint)).isEqualTo("saved");
+        verify(joinPoint, times(2)).proceed();
+        assertThat(retries("retried")).isEqualTo(1);
+        assertThat(retries("exhausted")).isZero();
+    }
+
+    @Test
+    void staleClientVersionFailsOnFirstAttempt() throws Throwable {
+        StaleVersionException failure = new StaleVersionException(Object.class, 42L);
+        when(joinPoint.proceed()).thenThrow(failure).thenReturn("saved");
+
+        assertThatThrownBy(() -> writeSerializer.serialize(joinPoint)).isSameAs(failure);
+        verify(joinPoint, times(1)).proceed();
+        assertThat(retries("retried")).isZero();
+        assertThat(retries("exhausted")).isZero();
+    }
+
+    @Test
+    void rethrowsAfterLastAttempt() throws Throwable {
+        ObjectOptimisticLockingFailureException failure = new ObjectOptimisticLockingFailureException(Object.class, 42L);
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        assertThatThrownBy(() -> writeSerializer.serialize(joinPoint)).isSameAs(failure);
+        verify(joinPoint, times(3)).proceed();
+        assertThat(retries("retried")).isEqualTo(2);
+        assertThat(retries("exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryOtherFailures() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("salary"));
+
+        assertThatThrownBy(() -> writeSerializer.serialize(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+        verify(joinPoint, times(1)).proceed();
+        assertThat(retries("retried")).isZero();
+    }
+
+    private double retries(String outcome) {
+        return meterRegistry.get("app.write-serializer.retries").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,145 @@
+package com.coderahul.employeemanagement.controller;
+
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.service.DepartmentService;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional requests: {@code If-None-Match} revalidation answers 304 until the resource
+ * changes, and updates with a stale {@code If-Match} fail with 412, or with 409 when the stale
+ * version comes in the body instead.
+ */
+@SpringBootTest
+class EntityTagTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void employeeRevalidatesUntilItChanges() throws Exception {
+        Employee employee = createEmployee();
+        String etag = mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + employee.getVersion() + "\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        String updatedEtag = mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson(employee, "Renamed", null)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedEtag));
+    }
+
+    @Test
+    void staleIfMatchIsPreconditionFailed() throws Exception {
+        Employee employee = createEmployee();
+        String stale = "\"" + (employee.getVersion() + 5) + "\"";
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, stale)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson(employee, "Lost", null)))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(employeeService.getEmployeeById(employee.getId()).orElseThrow().getFirstName()).isEqualTo("Pat");
+    }
+
+    @Test
+    void staleBodyVersionIsConflict() throws Exception {
+        Employee employee = createEmployee();
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson(employee, "Lost", employee.getVersion() + 5)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void collectionRevalidatesUntilAnEmployeeChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        createEmployee();
+
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void departmentUpdateChecksIfMatch() throws Exception {
+        Department department = departmentService.createDepartment(new Department("Tags " + UUID.randomUUID(), null));
+        String body = "{\"departmentName\":\"" + department.getDepartmentName() + "\",\"description\":\"Renamed\"}";
+
+        mockMvc.perform(put("/api/departments/{id}", department.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + (department.getVersion() + 1) + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/departments/{id}", department.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + department.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (department.getVersion() + 1) + "\""));
+    }
+
+    private Employee createEmployee() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return employeeService.createEmployee(new Employee("Pat", "Tagged", "pat." + suffix + "@example.com", null,
+                LocalDate.of(2020, 5, 4), new BigDecimal("55000.00")));
+    }
+
+    private static String employeeJson(Employee employee, String firstName, Long version) {
+        return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + employee.getLastName() + "\"," +
+                "\"email\":\"" + employee.getEmail() + "\",\"hireDate\":\"" + employee.getHireDate() + "\"," +
+                "\"salary\":" + employee.getSalary() + ",\"employmentStatus\":\"ACTIVE\"" +
+                (version != null ? ",\"version\":" + version : "") + "}";
+    }
+}
@@ -0,0 +1,76 @@
+package com.coderahul.employeemanagement.controller;
+
+import com.coderahul.employeemanagement.instrumentation.RequestProfilingFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The SQL statements each list endpoint runs, as counted by the request profiler. A list that
+ * starts loading rows one by one (an N+1) or an extra lookup per request fails here.
+ */
+@SpringBootTest
+class ListEndpointStatementCountTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(requestProfilingFilter.getFilter())
+                .build();
+    }
+
+    @ParameterizedTest(name = "{0} runs {2} statement(s)")
+    @CsvSource({
+            "/api/employees,                                        EmployeeController.getAllEmployees,              1",
+            "/api/employees?limit=50,                               EmployeeController.getAllEmployees,              1",
+            "/api/employees/query?status=ACTIVE&sort=salary&limit=50, EmployeeController.queryEmployees,             1",
+            "/api/employees/search?name=an,                         EmployeeController.searchEmployeesByName,        1",
+            "/api/employees/department/1,                           EmployeeController.getEmployeesByDepartment,     1",
+            "/api/employees/status/ACTIVE,                          EmployeeController.getEmployeesByStatus,         1",
+            "/api/employees/hired-between?startDate=2015-01-01&endDate=2025-12-31, EmployeeController.getEmployeesByHireDateRange, 1",
+            "/api/employees/salary-range?minSalary=30000&maxSalary=90000, EmployeeController.getEmployeesBySalaryRange, 1",
+            "/api/departments,                                      DepartmentController.getAllDepartments,          1",
+            "/api/departments/search?name=e,                        DepartmentController.searchDepartmentsByName,    1",
+            "/api/departments/with-employees,                       DepartmentController.getAllDepartmentsWithEmployees, 0",
+    })
+    void listEndpointRunsAFixedNumberOfStatements(String uri, String handler, int expectedStatements) throws Exception {
+        Totals before = totals(handler);
+
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+        Totals after = totals(handler);
+        assertThat(after.requests() - before.requests()).as("profiled requests").isEqualTo(1);
+        assertThat(after.statements() - before.statements()).as("SQL statements").isEqualTo(expectedStatements);
+    }
+
+    private Totals totals(String handler) {
+        DistributionSummary summary = meterRegistry.find("app.request.sql.statements").tag("handler", handler).summary();
+        return summary == null ? new Totals(0, 0) : new Totals(summary.count(), (long) summary.totalAmount());
+    }
+
+    private record Totals(long requests, long statements) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.coderahul.employeemanagement.datasource;
+
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.service.DepartmentService;
+import com.coderahul.employeemanagement.service.EmployeeService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routing against a replica that really lags: two in-memory H2 databases, with the replica only
+ * catching up when the test copies the primary into it. After a write, other clients read the
+ * stale replica, and the writing client's pin cookie sends its reads to the primary.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ryw-primary",
+        "app.datasource.replica.url=jdbc:h2:mem:ryw-replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.snapshot-interval=PT1H",
+        "app.datasource.replica.read-your-writes-window=1m"})
+class ReplicaReadYourWritesTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private SnapshotReplicator replicator;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void pinCookieReadsOwnWriteWhileTheReplicaIsStale() throws Exception {
+        Department department = departmentService.createDepartment(new Department("Replica " + UUID.randomUUID(), null));
+        Employee employee = new Employee("Rey", "Lag", "rey." + UUID.randomUUID().toString().substring(0, 8) + "@example.com",
+                null, LocalDate.of(2021, 4, 1), new BigDecimal("60000.00"));
+        employee.setDepartment(department);
+        employee = employeeService.createEmployee(employee);
+        replicator.copy();
+
+        Cookie pin = mockMvc.perform(patch("/api/employees/{id}/promote", employee.getId()).param("newSalary", "75000.00"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie(ReplicaRoutingDataSource.PIN_COOKIE);
+        assertThat(pin).isNotNull();
+
+        mockMvc.perform(get("/api/employees/department/{id}", department.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(60000.0));
+        mockMvc.perform(get("/api/employees/department/{id}", department.getId()).cookie(pin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(75000.0));
+
+        replicator.copy();
+        mockMvc.perform(get("/api/employees/department/{id}", department.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(75000.0));
+    }
+}
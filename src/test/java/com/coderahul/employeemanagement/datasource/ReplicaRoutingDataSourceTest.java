@@ -0,0 +1,115 @@
+package com.coderahul.employeemanagement.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routing = new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(2), new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readsGoToReplicaAndWritesToPrimary() throws SQLException {
+        assertThat(connection(true)).isSameAs(replicaConnection);
+        assertThat(connection(false)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void writingClientReadsFromPrimaryForTheRestOfTheRequestAndAfter() throws SQLException {
+        MockHttpServletResponse response = inRequest(new MockHttpServletRequest());
+        assertThat(connection(false)).isSameAs(primaryConnection);
+        assertThat(connection(true)).isSameAs(primaryConnection);
+
+        Cookie pin = response.getCookie(ReplicaRoutingDataSource.PIN_COOKIE);
+        assertThat(pin).isNotNull();
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(pin);
+        inRequest(next);
+        assertThat(connection(true)).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void otherClientsKeepReadingFromReplica() throws SQLException {
+        inRequest(new MockHttpServletRequest());
+        assertThat(connection(false)).isSameAs(primaryConnection);
+
+        inRequest(new MockHttpServletRequest());
+        assertThat(connection(true)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void expiredPinReadsFromReplica() throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReplicaRoutingDataSource.PIN_COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        inRequest(request);
+        assertThat(connection(true)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void primaryScopeReadsFromPrimary() {
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> connectionUnchecked(true))).isSameAs(primaryConnection);
+        assertThat(ReplicaRoutingDataSource.readsFromPrimary()).isFalse();
+    }
+
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    // Opens a connection inside a transaction of the given kind and commits it
+    private Connection connection(boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Connection connection = routing.getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return connection;
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private Connection connectionUnchecked(boolean readOnly) {
+        try {
+            return connection(readOnly);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
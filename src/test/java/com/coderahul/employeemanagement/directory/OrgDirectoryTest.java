@@ -0,0 +1,68 @@
+package com.coderahul.employeemanagement.directory;
+
+import com.coderahul.employeemanagement.dto.DepartmentWithEmployeesDto;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import com.coderahul.employeemanagement.event.EmployeeChangedEvent;
+import com.coderahul.employeemanagement.repository.DepartmentRepository;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrgDirectoryTest {
+
+    private static final EmployeeDto ADA = new EmployeeDto(7L, "Ada", "Lovelace", "ada@example.com", null,
+            LocalDate.of(2020, 1, 6), new BigDecimal("70000.00"), 1L, EmploymentStatus.ACTIVE);
+    private static final EmployeeDto ADA_PROMOTED = new EmployeeDto(7L, "Ada", "Lovelace", "ada@example.com", null,
+            LocalDate.of(2020, 1, 6), new BigDecimal("80000.00"), 1L, EmploymentStatus.ACTIVE);
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final OrgDirectory directory = new OrgDirectory(JsonMapper.builder().findAndAddModules().build(),
+            employeeRepository, mock(DepartmentRepository.class), transactionTemplate, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        directory.shutdown();
+    }
+
+    @Test
+    void failedRefreshReleasesReadersAndIsRetried() throws InterruptedException {
+        directory.rebuild(sink -> sink.accept(new DepartmentWithEmployeesDto(1L, "Research", null, List.of(ADA))));
+        when(employeeRepository.findDtosByIdIn(anyCollection())).thenReturn(List.of(ADA_PROMOTED));
+        when(transactionTemplate.execute(any()))
+                .thenThrow(new CannotCreateTransactionException("database down"))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        long start = System.nanoTime();
+        directory.onEmployeeChanged(EmployeeChangedEvent.updated(ADA, ADA_PROMOTED));
+        directory.view();
+        // The failed pass ends the wait instead of the full refresh-wait
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!salaryOfAda().equals(ADA_PROMOTED.salary()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(salaryOfAda()).isEqualTo(ADA_PROMOTED.salary());
+    }
+
+    private BigDecimal salaryOfAda() {
+        return directory.view().departments().get(0).employees().get(0).salary();
+    }
+}
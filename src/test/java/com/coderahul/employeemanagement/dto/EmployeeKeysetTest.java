@@ -0,0 +1,71 @@
+package com.coderahul.employeemanagement.dto;
+
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeKeysetTest {
+
+    private static final EmployeeDto EMPLOYEE = new EmployeeDto(42L, "Ada", "Lovelace", "ada@example.com", null,
+            LocalDate.of(2019, 12, 10), new BigDecimal("81234.50"), 3L, EmploymentStatus.ACTIVE);
+
+    @Test
+    void roundTripsEverySortKey() {
+        for (EmployeeSort sort : EmployeeSort.values()) {
+            for (boolean descending : new boolean[] {false, true}) {
+                EmployeeQuery query = query(sort, descending);
+                EmployeeKeyset keyset = EmployeeKeyset.after(EMPLOYEE, sort);
+
+                EmployeeKeyset decoded = EmployeeKeyset.decode(keyset.encode(query), query);
+
+                assertThat(decoded).isEqualTo(keyset);
+                assertThat(decoded.id()).isEqualTo(42L);
+            }
+        }
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = EmployeeKeyset.after(EMPLOYEE, EmployeeSort.SALARY).encode(query(EmployeeSort.SALARY, true));
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        String bySalary = EmployeeKeyset.after(EMPLOYEE, EmployeeSort.SALARY).encode(query(EmployeeSort.SALARY, false));
+
+        assertThatThrownBy(() -> EmployeeKeyset.decode(bySalary, query(EmployeeSort.HIRE_DATE, false)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("salary,asc");
+        assertThatThrownBy(() -> EmployeeKeyset.decode(bySalary, query(EmployeeSort.SALARY, true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        EmployeeQuery query = query(EmployeeSort.HIRE_DATE, false);
+
+        for (String cursor : new String[] {"not base64!", encode("hireDate,asc,2019-12-10"),
+                encode("hireDate,asc,yesterday,42"), encode("hireDate,asc,2019-12-10,x"), ""}) {
+            assertThatThrownBy(() -> EmployeeKeyset.decode(cursor, query))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static EmployeeQuery query(EmployeeSort sort, boolean descending) {
+        return new EmployeeQuery(null, null, null, null, null, null, sort, descending);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
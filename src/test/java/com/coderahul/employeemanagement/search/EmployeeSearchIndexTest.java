@@ -0,0 +1,73 @@
+package com.coderahul.employeemanagement.search;
+
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeSearchIndexTest {
+
+    private final EmployeeSearchIndex index = new EmployeeSearchIndex();
+
+    @Test
+    void ranksPrefixMatchesFirst() {
+        index.add(employee(1, "Anna", "Smith"));
+        index.add(employee(2, "Joanna", "Brown"));
+        index.add(employee(3, "Peter", "Jones"));
+
+        assertThat(index.search("ann", 10)).startsWith(1L);
+        assertThat(index.search("jones", 10)).startsWith(3L);
+    }
+
+    @Test
+    void removedAndReplacedEmployeesAreNotReturned() {
+        index.add(employee(1, "Anna", "Smith"));
+        index.add(employee(2, "Anna", "Brown"));
+        index.remove(1L);
+        index.add(employee(2, "Maria", "Brown"));
+
+        assertThat(index.search("anna", 10)).isEmpty();
+        assertThat(index.search("maria brown", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void repeatedSearchesGiveTheSameResultsAcrossThreads() throws Exception {
+        for (int id = 1; id <= 3000; id++) {
+            index.add(employee(id, id % 2 == 0 ? "Anna" : "Peter", "Name" + id));
+        }
+        // Compacts the slots while scratch arrays are pooled
+        for (int id = 1; id <= 2000; id++) {
+            index.remove((long) id);
+        }
+        List<Long> expected = index.search("anna", 5000);
+        assertThat(expected).hasSize(500);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> index.search("anna", 5000)));
+            }
+            for (Future<List<Long>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static EmployeeDto employee(long id, String firstName, String lastName) {
+        return new EmployeeDto(id, firstName, lastName, firstName.toLowerCase() + "." + id + "@example.com", null,
+                LocalDate.of(2020, 1, 1), new BigDecimal("50000.00"), 1L, EmploymentStatus.ACTIVE);
+    }
+}
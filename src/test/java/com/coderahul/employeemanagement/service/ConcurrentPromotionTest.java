@@ -0,0 +1,134 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.entity.Department;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Promotions racing on one employee, and on employees of different departments, through the
+ * {@code @SerializedWrite} aspect. None may be lost to a version conflict: every promotion either
+ * succeeds and bumps the version, or is refused because a higher salary landed first.
+ */
+@SpringBootTest
+class ConcurrentPromotionTest {
+
+    private static final int THREADS = 8;
+    private static final int PROMOTIONS_PER_THREAD = 25;
+    private static final BigDecimal BASE_SALARY = new BigDecimal("50000.00");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void concurrentPromotionsOfOneEmployeeKeepTheHighestSalary() throws Exception {
+        Employee employee = createEmployee(createDepartment());
+        long initialVersion = employee.getVersion();
+
+        // Every ask is distinct; an ask only succeeds while it is above the salary at the time
+        List<Integer> raises = new ArrayList<>(IntStream.rangeClosed(1, THREADS * PROMOTIONS_PER_THREAD).boxed().toList());
+        Collections.shuffle(raises);
+        List<Integer> succeeded = Collections.synchronizedList(new ArrayList<>());
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < PROMOTIONS_PER_THREAD; i++) {
+                int raise = raises.get(thread * PROMOTIONS_PER_THREAD + i);
+                try {
+                    employeeService.promoteEmployee(employee.getId(), BASE_SALARY.add(BigDecimal.valueOf(raise)));
+                    succeeded.add(raise);
+                } catch (IllegalArgumentException refused) {
+                    // A higher salary is already in place
+                }
+            }
+            return null;
+        });
+
+        Employee saved = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertThat(saved.getSalary()).isEqualByComparingTo(BASE_SALARY.add(BigDecimal.valueOf(THREADS * PROMOTIONS_PER_THREAD)));
+        assertThat(saved.getVersion()).isEqualTo(initialVersion + succeeded.size());
+    }
+
+    @Test
+    void concurrentPromotionsOfDifferentEmployeesAllApply() throws Exception {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            employees.add(createEmployee(createDepartment()));
+        }
+
+        runConcurrently(thread -> () -> {
+            Employee employee = employees.get(thread);
+            for (int i = 1; i <= PROMOTIONS_PER_THREAD; i++) {
+                employeeService.promoteEmployee(employee.getId(), BASE_SALARY.add(BigDecimal.valueOf(i)));
+            }
+            return null;
+        });
+
+        for (Employee employee : employees) {
+            Employee saved = employeeRepository.findById(employee.getId()).orElseThrow();
+            assertThat(saved.getSalary()).isEqualByComparingTo(BASE_SALARY.add(BigDecimal.valueOf(PROMOTIONS_PER_THREAD)));
+            assertThat(saved.getVersion()).isEqualTo(employee.getVersion() + PROMOTIONS_PER_THREAD);
+        }
+    }
+
+    // Starts every thread's task together and rethrows the first failure
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                Callable<Void> body = task.forThread(thread);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return body.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Department createDepartment() {
+        return departmentService.createDepartment(new Department("Promotions " + UUID.randomUUID(), null));
+    }
+
+    private Employee createEmployee(Department department) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Employee employee = new Employee("Pat", "Race", "pat." + suffix + "@example.com", null,
+                LocalDate.of(2020, 1, 15), BASE_SALARY);
+        employee.setDepartment(department);
+        return employeeService.createEmployee(employee);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        Callable<Void> forThread(int thread);
+    }
+}
@@ -0,0 +1,65 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.ImportResult;
+import com.coderahul.employeemanagement.entity.Employee;
+import com.coderahul.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imported rows take their ids from the employee sequence in the blocks Hibernate uses, so they
+ * never collide with employees saved through JPA in between.
+ */
+@SpringBootTest
+class EmployeeImportIdsTest {
+
+    private static final int ROWS = Employee.ID_ALLOCATION_SIZE + 10;
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void importedAndSavedEmployeesGetDistinctIds() throws Exception {
+        String batch = UUID.randomUUID().toString().substring(0, 8);
+        Set<Long> ids = new HashSet<>();
+
+        assertThat(importCsv(batch + "a").imported()).isEqualTo(ROWS);
+        ids.add(employeeService.createEmployee(new Employee("Jo", "Saved", "jo." + batch + "@example.com", null,
+                LocalDate.of(2021, 3, 1), new BigDecimal("61000.00"))).getId());
+        assertThat(importCsv(batch + "b").imported()).isEqualTo(ROWS);
+
+        List<Employee> imported = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getEmail().contains(batch))
+                .toList();
+        assertThat(imported).hasSize(ROWS * 2 + 1);
+        imported.forEach(employee -> ids.add(employee.getId()));
+        assertThat(ids).hasSize(ROWS * 2 + 1);
+    }
+
+    private ImportResult importCsv(String batch) throws Exception {
+        StringBuilder csv = new StringBuilder("firstName,lastName,email,hireDate,salary\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("Imp,Row").append(i).append(",imp.").append(i).append('.').append(batch)
+                    .append("@example.com,2020-06-01,52000.00\n");
+        }
+        return importService.importCsv(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.entity.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeImportServiceTest {
+
+    @Test
+    void parsesPlainFields() {
+        assertThat(EmployeeImportService.parseCsvLine("Ada,Lovelace,ada@example.com"))
+                .containsExactly("Ada", "Lovelace", "ada@example.com");
+    }
+
+    @Test
+    void keepsEmptyFieldsIncludingTrailingOnes() {
+        assertThat(EmployeeImportService.parseCsvLine(",a,,b,")).containsExactly("", "a", "", "b", "");
+        assertThat(EmployeeImportService.parseCsvLine("")).containsExactly("");
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasAndEscapedQuotes() {
+        assertThat(EmployeeImportService.parseCsvLine("\"Smith, Jr.\",\"say \"\"hi\"\"\",x"))
+                .containsExactly("Smith, Jr.", "say \"hi\"", "x");
+        assertThat(EmployeeImportService.parseCsvLine("\"\",\"\"\"\""))
+                .containsExactly("", "\"");
+    }
+
+    @Test
+    void assignsIdsFromSequenceBlocks() {
+        List<Employee> employees = employees(Employee.ID_ALLOCATION_SIZE * 2 + 3);
+        Iterator<Long> sequence = List.of(100L, 150L, 200L).iterator();
+
+        EmployeeImportService.assignIds(employees, sequence::next);
+
+        // Value v reserves v - 49 .. v, the same range Hibernate's pooled optimizer takes
+        assertThat(employees.get(0).getId()).isEqualTo(51);
+        assertThat(employees.get(Employee.ID_ALLOCATION_SIZE - 1).getId()).isEqualTo(100);
+        assertThat(employees.get(Employee.ID_ALLOCATION_SIZE).getId()).isEqualTo(101);
+        assertThat(employees.get(Employee.ID_ALLOCATION_SIZE * 2 - 1).getId()).isEqualTo(150);
+        assertThat(employees.get(Employee.ID_ALLOCATION_SIZE * 2).getId()).isEqualTo(151);
+        assertThat(employees.get(employees.size() - 1).getId()).isEqualTo(153);
+        assertThat(sequence.hasNext()).isFalse();
+    }
+
+    @Test
+    void fullBlockTakesOneSequenceValue() {
+        List<Employee> employees = employees(Employee.ID_ALLOCATION_SIZE);
+        Iterator<Long> sequence = List.of(50L, 100L).iterator();
+
+        EmployeeImportService.assignIds(employees, sequence::next);
+
+        assertThat(employees).extracting(Employee::getId).first().isEqualTo(1L);
+        assertThat(employees).extracting(Employee::getId).last().isEqualTo(50L);
+        assertThat(sequence.next()).isEqualTo(100L);
+    }
+
+    @Test
+    void noEmployeesTakeNoSequenceValue() {
+        EmployeeImportService.assignIds(List.of(), () -> {
+            throw new AssertionError("sequence read for an empty chunk");
+        });
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee());
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,59 @@
+package com.coderahul.employeemanagement.service;
+
+import com.coderahul.employeemanagement.dto.CursorPage;
+import com.coderahul.employeemanagement.dto.EmployeeDto;
+import com.coderahul.employeemanagement.dto.EmployeeQuery;
+import com.coderahul.employeemanagement.dto.EmployeeSort;
+import com.coderahul.employeemanagement.entity.Employee.EmploymentStatus;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Following {@code nextCursor} through a query visits every matching employee exactly once, in
+ * the requested order, also across runs of equal sort keys.
+ */
+@SpringBootTest
+class EmployeeQueryPagingTest {
+
+    private static final int PAGE_SIZE = 37;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @ParameterizedTest(name = "{0} desc={1}")
+    @CsvSource({"ID, false", "HIRE_DATE, false", "HIRE_DATE, true", "SALARY, false", "SALARY, true"})
+    void pagesCoverEveryEmployeeOnceInOrder(EmployeeSort sort, boolean descending) {
+        EmployeeQuery query = new EmployeeQuery(null, List.of(EmploymentStatus.ACTIVE), null, null, null, null,
+                sort, descending);
+
+        List<EmployeeDto> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<EmployeeDto> page = employeeService.queryEmployees(query, cursor, PAGE_SIZE);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            paged.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<EmployeeDto> expected = employeeService.getEmployeesByStatus(EmploymentStatus.ACTIVE).stream()
+                .filter(employee -> sort != EmployeeSort.SALARY || employee.salary() != null)
+                .sorted(order(sort, descending))
+                .toList();
+        assertThat(paged).extracting(EmployeeDto::id).containsExactlyElementsOf(expected.stream().map(EmployeeDto::id).toList());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<EmployeeDto> order(EmployeeSort sort, boolean descending) {
+        Comparator<EmployeeDto> byKey = Comparator.comparing(employee -> (Comparable) sort.keyOf(employee));
+        Comparator<EmployeeDto> byKeyThenId = byKey.thenComparing(EmployeeDto::id);
+        return descending ? byKeyThenId.reversed() : byKeyThenId;
+    }
+}
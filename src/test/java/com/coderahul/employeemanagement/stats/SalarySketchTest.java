@@ -0,0 +1,79 @@
+package com.coderahul.employeemanagement.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SalarySketchTest {
+
+    // Relative width of one bucket
+    private static final double BUCKET_WIDTH = 2 * SalarySketch.RELATIVE_ACCURACY / (1 - SalarySketch.RELATIVE_ACCURACY);
+
+    @Test
+    void boundsEncloseTheExtremesWithinOneBucket() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(4_123_457);
+        sketch.add(5_000_000);
+        sketch.add(9_876_543);
+
+        assertThat(sketch.lowerBound()).isLessThan(41_234.57).isGreaterThanOrEqualTo(41_234.57 / (1 + BUCKET_WIDTH));
+        assertThat(sketch.upperBound()).isGreaterThanOrEqualTo(98_765.43).isLessThan(98_765.43 * (1 + BUCKET_WIDTH));
+        assertThat(sketch.quantile(0.5)).isCloseTo(50_000.0, within(50_000 * SalarySketch.RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void boundsFollowRemovals() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(4_123_457);
+        sketch.add(4_123_457);
+        sketch.add(5_000_000);
+        sketch.add(9_876_543);
+
+        sketch.remove(4_123_457);
+        assertThat(sketch.lowerBound()).isLessThan(41_234.57);
+        sketch.remove(4_123_457);
+        sketch.remove(9_876_543);
+        assertThat(sketch.lowerBound()).isLessThan(50_000.0).isGreaterThan(41_234.57);
+        assertThat(sketch.upperBound()).isGreaterThanOrEqualTo(50_000.0).isLessThan(98_765.43);
+        assertThat(sketch.count()).isEqualTo(1);
+    }
+
+    @Test
+    void removingAnAbsentValueChangesNothing() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(5_000_000);
+
+        sketch.remove(9_000_000);
+        assertThat(sketch.count()).isEqualTo(1);
+        assertThat(sketch.totalCents()).isEqualTo(5_000_000);
+    }
+
+    @Test
+    void emptySketchHasNoBounds() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(5_000_000);
+        sketch.remove(5_000_000);
+
+        assertThat(sketch.lowerBound()).isNaN();
+        assertThat(sketch.upperBound()).isNaN();
+    }
+
+    @Test
+    void mergeEnclosesTheValuesOfItsParts() {
+        SalarySketch low = new SalarySketch();
+        low.add(3_000_017);
+        low.add(7_000_000);
+        SalarySketch high = new SalarySketch();
+        high.add(12_000_099);
+
+        SalarySketch merged = new SalarySketch();
+        merged.merge(low);
+        merged.merge(high);
+
+        assertThat(merged.count()).isEqualTo(3);
+        assertThat(merged.lowerBound()).isEqualTo(low.lowerBound());
+        assertThat(merged.upperBound()).isEqualTo(high.upperBound());
+        assertThat(merged.histogram(merged.lowerBound(), merged.upperBound(), 3)).containsExactly(1, 1, 1);
+    }
+}